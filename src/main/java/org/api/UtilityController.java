@@ -2,10 +2,16 @@ package org.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.utils.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @SpringBootApplication(scanBasePackages = {"org.api", "org.utils"})
@@ -28,6 +34,7 @@ public class UtilityController {
         public String s2;     // For second String or delimiters
         public String val;    // For int values (k, target, numNodes)
         public String val2;   // For second int values
+        public String handle; // For server-side index handles
     }
 
     // --- Generic Response DTO ---
@@ -40,6 +47,25 @@ public class UtilityController {
         }
     }
 
+    // --- Server-Side Handles ---
+    // Prebuilt indexes are kept here so their build cost is paid once across requests
+    private final Map<String, Object> handles = new ConcurrentHashMap<>();
+    private final AtomicLong handleCounter = new AtomicLong();
+
+    private String registerHandle(String prefix, Object index) {
+        String id = prefix + "-" + handleCounter.incrementAndGet();
+        handles.put(id, index);
+        return id;
+    }
+
+    private <T> T lookupHandle(String id, Class<T> type) {
+        Object index = (id != null) ? handles.get(id.trim()) : null;
+        if (!type.isInstance(index)) {
+            throw new IllegalArgumentException("Unknown handle: " + id);
+        }
+        return type.cast(index);
+    }
+
     @PostMapping("/execute")
     public ResponseDTO execute(@RequestBody RequestDTO req) {
         try {
@@ -49,6 +75,7 @@ public class UtilityController {
                 case "graph" -> handleGraph(req);
                 case "dp" -> handleDP(req);
                 case "stack" -> handleStack(req);
+                case "index" -> handleIndex(req);
                 default -> throw new IllegalArgumentException("Unknown category");
             };
             return new ResponseDTO("SUCCESS", res);
@@ -58,6 +85,42 @@ public class UtilityController {
         }
     }
 
+    // --- Bulk Permutation Streaming ---
+    // Upper bound on permutations per request, so one call cannot stream 20! lines
+    private static final int MAX_STREAMED_PERMUTATIONS = 100_000;
+
+    /**
+     * Streams permutations of r.arr in lexicographic order, one per line, starting at rank r.val
+     * (default 0) and stopping after r.val2 lines (default and maximum MAX_STREAMED_PERMUTATIONS).
+     * A non-positive line count is rejected with 400 Bad Request.
+     */
+    @PostMapping(value = "/permutations", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPermutations(@RequestBody RequestDTO req) {
+        PermutationCursor cursor = new PermutationCursor(parseIntArray(req.arr));
+        long startRank = (req.val != null) ? Long.parseLong(req.val.trim()) : 0;
+        int cap = (req.val2 != null) ? Math.min(parseInt(req.val2), MAX_STREAMED_PERMUTATIONS) : MAX_STREAMED_PERMUTATIONS;
+        if (cap <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        cursor.seek(startRank);
+
+        StreamingResponseBody body = out -> {
+            StringBuilder line = new StringBuilder();
+            int written = 0;
+            do {
+                line.setLength(0);
+                for (int value : cursor.current()) {
+                    if (line.length() > 0) line.append(' ');
+                    line.append(value);
+                }
+                line.append('\n');
+                out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+                written++;
+            } while (written < cap && cursor.next());
+        };
+        return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(body);
+    }
+
     // --- Parsing Helpers ---
     private int[] parseIntArray(String s) {
         if(s==null || s.trim().isEmpty()) return new int[0];
@@ -76,20 +139,118 @@ public class UtilityController {
             case "min" -> String.valueOf(ArrayUtils.min(arr));
             case "max" -> String.valueOf(ArrayUtils.max(arr));
             case "mergeSort" -> { ArrayUtils.mergeSort(arr); yield Arrays.toString(arr); }
+            case "sortIndices" -> Arrays.toString(ArrayUtils.sortIndices(arr));
+            case "sortBy" -> { ArrayUtils.sortBy(arr, arr2); yield Arrays.toString(arr) + " " + Arrays.toString(arr2); }
             case "twoSumUniquePairs" -> String.valueOf(ArrayUtils.twoSumUniquePairs(arr, val));
+            case "twoSumUniquePairsPreserving" -> String.valueOf(ArrayUtils.twoSumUniquePairsPreserving(arr, val));
+            case "twoSumUniquePairsBatch" -> Arrays.toString(ArrayUtils.twoSumUniquePairsBatch(arr, arr2));
             case "majorityElement" -> String.valueOf(ArrayUtils.majorityElement(arr));
+            case "majorityElementParallel" -> String.valueOf(ArrayUtils.majorityElementParallel(arr));
+            case "heavyHitters" -> Arrays.toString(ArrayUtils.heavyHitters(arr, val, true));
             case "longestSubarrayWithSum" -> String.valueOf(ArrayUtils.longestSubarrayWithSum(arr, val));
             case "maxProductSubarray" -> String.valueOf(ArrayUtils.maxProductSubarray(arr));
+            case "maxProductSubarrayParallel" -> String.valueOf(ArrayUtils.maxProductSubarrayParallel(arr));
+            case "maxProductSubarrayExact" -> ArrayUtils.maxProductSubarrayExact(arr).toString();
             case "nextPermutation" -> { ArrayUtils.nextPermutation(arr); yield Arrays.toString(arr); }
             case "partition" -> { int p = ArrayUtils.partition(arr, 0, arr.length-1); yield "Pivot Idx: " + p + ", Arr: " + Arrays.toString(arr); }
-            case "rotate" -> { ArrayUtils.rotate(arr, val); yield Arrays.toString(arr); }
+            case "partitionThreeWay" -> {
+                // Optional pivot strategy name (LAST, MEDIAN_OF_3, NINTHER, RANDOM) in s1
+                PivotStrategy strategy = (r.s1 != null && !r.s1.isBlank()) ? PivotStrategy.valueOf(r.s1.trim().toUpperCase()) : PivotStrategy.LAST;
+                int[] bounds = ArrayUtils.partitionThreeWayParallel(arr, 0, arr.length - 1, strategy);
+                yield "Bounds: " + Arrays.toString(bounds) + ", Arr: " + Arrays.toString(arr);
+            }
+            case "select" -> String.valueOf(ArrayUtils.select(arr, val));
+            case "topK" -> Arrays.toString(ArrayUtils.topK(arr, val));
+            case "nthElement" -> {
+                // Optional inclusive range "low high" in arr2, defaults to the whole array
+                int low = (arr2 != null && arr2.length == 2) ? arr2[0] : 0;
+                int high = (arr2 != null && arr2.length == 2) ? arr2[1] : arr.length - 1;
+                ArrayUtils.nthElement(arr, low, high, val);
+                yield Arrays.toString(arr);
+            }
+            case "rotate" -> {
+                // Optional rotation mode (AUTO, REVERSAL, JUGGLING, BLOCK_SWAP, PARALLEL) in s1
+                if (r.s1 != null && !r.s1.isBlank()) {
+                    ArrayUtils.rotate(arr, val, RotationMode.valueOf(r.s1.trim().toUpperCase()));
+                } else {
+                    ArrayUtils.rotate(arr, val);
+                }
+                yield Arrays.toString(arr);
+            }
             case "hasIntersection" -> String.valueOf(ArrayUtils.hasIntersection(arr, arr2));
+            case "intersect" -> Arrays.toString(SortedSetUtils.intersect(arr, arr2));
+            case "intersectCount" -> String.valueOf(SortedSetUtils.intersectCount(arr, arr2));
+            case "union" -> Arrays.toString(SortedSetUtils.union(arr, arr2));
+            case "difference" -> Arrays.toString(SortedSetUtils.difference(arr, arr2));
+            case "intersectAll" -> {
+                // One sorted list per line in s1
+                int[][] lists = Arrays.stream(r.s1.split("\n")).map(this::parseIntArray).toArray(int[][]::new);
+                yield Arrays.toString(SortedSetUtils.intersectAll(lists));
+            }
             case "isSorted" -> String.valueOf(ArrayUtils.isSorted(arr));
             case "binarySearchFirstOccurrence" -> String.valueOf(ArrayUtils.binarySearchFirstOccurrence(arr, val));
             default -> "Function not found";
         };
     }
 
+    private String handleIndex(RequestDTO r) {
+        return switch (r.functionName) {
+            case "buildPrefixSumIndex" -> registerHandle("psi", new PrefixSumIndex(parseIntArray(r.arr)));
+            case "prefixLongestSubarrayWithSum" -> String.valueOf(lookupHandle(r.handle, PrefixSumIndex.class).longestSubarrayWithSum(Long.parseLong(r.val.trim())));
+            case "prefixCountSubarraysWithSum" -> String.valueOf(lookupHandle(r.handle, PrefixSumIndex.class).countSubarraysWithSum(Long.parseLong(r.val.trim())));
+            case "prefixRangeSum" -> String.valueOf(lookupHandle(r.handle, PrefixSumIndex.class).rangeSum(parseInt(r.val), parseInt(r.val2)));
+            case "buildSortedIntIndex" -> registerHandle("sii", new SortedIntIndex(parseIntArray(r.arr)));
+            case "sortedIndexFirstOccurrence" -> Arrays.toString(lookupHandle(r.handle, SortedIntIndex.class).firstIndex(parseIntArray(r.arr)));
+            case "sortedIndexCountInRange" -> String.valueOf(lookupHandle(r.handle, SortedIntIndex.class).countInRange(parseInt(r.val), parseInt(r.val2)));
+            case "buildSparseTable" -> registerHandle("spt", new SparseTable(parseIntArray(r.arr)));
+            case "sparseRangeMin" -> Arrays.toString(lookupHandle(r.handle, SparseTable.class).rangeMin(parseIntArray(r.arr), parseIntArray(r.arr2)));
+            case "sparseRangeMax" -> Arrays.toString(lookupHandle(r.handle, SparseTable.class).rangeMax(parseIntArray(r.arr), parseIntArray(r.arr2)));
+            case "buildFenwickTree" -> registerHandle("fen", new FenwickTree(parseIntArray(r.arr)));
+            case "fenwickRangeSum" -> {
+                FenwickTree tree = lookupHandle(r.handle, FenwickTree.class);
+                synchronized (tree) { yield Arrays.toString(tree.rangeSum(parseIntArray(r.arr), parseIntArray(r.arr2))); }
+            }
+            case "fenwickAdd" -> {
+                FenwickTree tree = lookupHandle(r.handle, FenwickTree.class);
+                synchronized (tree) { tree.add(parseInt(r.val), parseInt(r.val2)); yield "OK"; }
+            }
+            case "fenwickSet" -> {
+                FenwickTree tree = lookupHandle(r.handle, FenwickTree.class);
+                synchronized (tree) { tree.set(parseInt(r.val), parseInt(r.val2)); yield "OK"; }
+            }
+            case "buildRunTracker" -> {
+                RunTracker tracker = new RunTracker();
+                tracker.appendAll(parseIntArray(r.arr));
+                yield registerHandle("run", tracker);
+            }
+            case "runTrackerAppend" -> { lookupHandle(r.handle, RunTracker.class).appendAll(parseIntArray(r.arr)); yield "OK"; }
+            case "runTrackerStats" -> {
+                RunTracker tracker = lookupHandle(r.handle, RunTracker.class);
+                yield "Sorted: " + tracker.isSorted() + ", Runs: " + tracker.runCount() + ", Longest Run: " + tracker.longestRun();
+            }
+            case "runTrackerSort" -> {
+                RunTracker tracker = lookupHandle(r.handle, RunTracker.class);
+                tracker.sort();
+                yield Arrays.toString(tracker.toArray());
+            }
+            case "buildDynamicConnectivity" -> registerHandle("dyn", new DynamicConnectivity(parseInt(r.val)));
+            case "dynamicAddEdges" -> Arrays.toString(lookupHandle(r.handle, DynamicConnectivity.class).addEdges(parseIntArray(r.arr), parseIntArray(r.arr2)));
+            case "dynamicConnected" -> String.valueOf(lookupHandle(r.handle, DynamicConnectivity.class).connected(parseInt(r.val), parseInt(r.val2)));
+            case "dynamicComponentCount" -> String.valueOf(lookupHandle(r.handle, DynamicConnectivity.class).componentCount());
+            case "buildOnlineTopologicalOrder" -> registerHandle("topo", new OnlineTopologicalOrder(parseInt(r.val)));
+            case "topologicalAddEdges" -> {
+                OnlineTopologicalOrder dag = lookupHandle(r.handle, OnlineTopologicalOrder.class);
+                synchronized (dag) { yield Arrays.toString(dag.addEdges(parseIntArray(r.arr), parseIntArray(r.arr2))); }
+            }
+            case "topologicalOrder" -> {
+                OnlineTopologicalOrder dag = lookupHandle(r.handle, OnlineTopologicalOrder.class);
+                synchronized (dag) { yield Arrays.toString(dag.order()); }
+            }
+            case "releaseHandle" -> String.valueOf(handles.remove(r.handle.trim()) != null);
+            default -> "Function not found";
+        };
+    }
+
     private String handleString(RequestDTO r) {
         String s1 = r.s1;
         String s2 = r.s2;
@@ -133,7 +294,7 @@ public class UtilityController {
 
         // Special parser for weighted Dijkstra
         List<Map<Integer, Integer>> weightedAdj = new ArrayList<>();
-        if(r.functionName.equals("shortestPathDijkstra")) {
+        if(r.functionName.equals("shortestPathDijkstra") || r.functionName.equals("shortestPathTree") || r.functionName.equals("shortestPathDeltaStepping")) {
             for(int i=0; i<numNodes; i++) weightedAdj.add(new HashMap<>());
             if(r.s1 != null) {
                 for(String line : r.s1.split("\n")) {
@@ -149,13 +310,22 @@ public class UtilityController {
 
         return switch (r.functionName) {
             case "shortestPathBFS" -> Arrays.toString(GraphUtils.shortestPathBFS(adj, numNodes, startNode));
+            case "shortestPathBFSParallel" -> Arrays.toString(GraphUtils.shortestPathBFSParallel(CsrGraph.fromAdjacency(adj, numNodes), startNode));
+            case "multiSourceBFS" -> Arrays.deepToString(GraphUtils.multiSourceBFS(CsrGraph.fromAdjacency(adj, numNodes), parseIntArray(r.arr)));
             case "traverseDFS" -> GraphUtils.traverseDFS(adj, numNodes, startNode).toString();
             case "containsCycleUndirected" -> String.valueOf(GraphUtils.containsCycleUndirected(adj, numNodes));
             case "maxDegree" -> String.valueOf(GraphUtils.maxDegree(adj, numNodes));
+            case "connectedComponentsAfforest" -> Arrays.toString(GraphUtils.connectedComponentsAfforest(CsrGraph.fromAdjacency(adj, numNodes)).labels());
             case "topologicalSortKahn" -> GraphUtils.topologicalSortKahn(adj, numNodes).toString();
+            case "topologicalLevels" -> {
+                TopologicalLevels levels = GraphUtils.topologicalLevels(CsrGraph.fromAdjacency(adj, numNodes));
+                yield levels.isAcyclic() ? Arrays.toString(levels.levels()) : "Cycle: " + Arrays.toString(levels.cycle());
+            }
             case "isTree" -> String.valueOf(GraphUtils.isTree(adj, numNodes));
             case "countConnectedComponents" -> String.valueOf(GraphUtils.countConnectedComponents(adj, numNodes));
             case "shortestPathDijkstra" -> Arrays.toString(GraphUtils.shortestPathDijkstra(weightedAdj, numNodes, startNode));
+            case "shortestPathTree" -> Arrays.toString(GraphUtils.shortestPathTree(CsrGraph.fromWeightedAdjacency(weightedAdj, numNodes), startNode).distances());
+            case "shortestPathDeltaStepping" -> Arrays.toString(GraphUtils.shortestPathDeltaStepping(CsrGraph.fromWeightedAdjacency(weightedAdj, numNodes), startNode));
             case "isSinkNode" -> String.valueOf(GraphUtils.isSinkNode(adj, numNodes, startNode)); // reusing val2 as check node
             case "computeIndegrees" -> Arrays.toString(GraphUtils.computeIndegrees(adj, numNodes));
             default -> "Function not found";
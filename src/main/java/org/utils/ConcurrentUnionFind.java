@@ -0,0 +1,194 @@
+package org.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.stream.IntStream;
+
+/**
+ * Lock-free disjoint-set forest (union-find) over the elements 0 .. size - 1.
+ * Every set is a tree in a single int array of parent links. union() links the two roots with one
+ * compare-and-set, always placing the root of lower priority below the other; priorities are a fixed
+ * pseudo-random permutation of the elements (randomized linking, as in Jayanti and Tarjan's concurrent
+ * union-find), so trees can never form cycles and stay O(log n) deep in expectation whatever the
+ * order of the unions. find() shortens paths by halving (every visited node is re-pointed to its
+ * grandparent, also with compare-and-set), which keeps trees shallow without any locking.
+ * Every root also records the smallest element of its set, so sets are still labelled by their
+ * smallest element.
+ * All methods may be called concurrently from any number of threads.
+ */
+public final class ConcurrentUnionFind {
+
+    private static final VarHandle PARENT = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int[] parent;
+    private final int[] smallest;   // smallest[root] = smallest element of the root's set
+
+    /**
+     * Creates a forest of singleton sets.
+     *
+     * @param size The number of elements.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public ConcurrentUnionFind(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative.");
+        }
+        parent = new int[size];
+        smallest = new int[size];
+        IntStream elements = IntStream.range(0, size);
+        if (size >= ArrayUtils.PARALLEL_THRESHOLD) {
+            elements = elements.parallel();
+        }
+        elements.forEach(i -> {
+            parent[i] = i;
+            smallest[i] = i;
+        });
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return The size of the forest.
+     */
+    public int size() {
+        return parent.length;
+    }
+
+    /**
+     * Returns the smallest element of the set containing x.
+     *
+     * @param x The element.
+     * @return The smallest element of x's set; under concurrent unions it may lag behind the latest merge.
+     * @throws IllegalArgumentException if x is out of bounds.
+     */
+    public int find(int x) {
+        checkElement(x);
+        return (int) PARENT.getVolatile(smallest, root(x));
+    }
+
+    /**
+     * Merges the sets containing a and b.
+     *
+     * @param a The first element.
+     * @param b The second element.
+     * @return true if the sets were merged by this call, false if a and b were already in the same set.
+     * @throws IllegalArgumentException if an element is out of bounds.
+     */
+    public boolean union(int a, int b) {
+        checkElement(a);
+        checkElement(b);
+        while (true) {
+            int rootA = root(a);
+            int rootB = root(b);
+            if (rootA == rootB) {
+                return false;
+            }
+            boolean aBelow = priority(rootA) < priority(rootB);
+            int child = aBelow ? rootA : rootB;
+            int root = aBelow ? rootB : rootA;
+            // Fails only if another thread linked child in the meantime; retry from the new roots
+            if (PARENT.compareAndSet(parent, child, child, root)) {
+                propagateSmallest(root, (int) PARENT.getVolatile(smallest, child));
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Lowers the recorded smallest element of root's set to at most value. If root is linked below
+     * another root meanwhile, the value is carried up to the new root, so no update is lost: whoever
+     * links root reads its smallest element after the link, and the link is seen here afterwards.
+     */
+    private void propagateSmallest(int root, int value) {
+        while (true) {
+            int current = (int) PARENT.getVolatile(smallest, root);
+            if (current <= value || PARENT.compareAndSet(smallest, root, current, value)) {
+                if (parent(root) == root) {
+                    return;
+                }
+                root = root(root);
+            }
+        }
+    }
+
+    /**
+     * Pseudo-random priority of an element: the murmur3 finalizer, a bijection on ints, so
+     * priorities are distinct.
+     */
+    private static int priority(int x) {
+        x ^= x >>> 16;
+        x *= 0x85ebca6b;
+        x ^= x >>> 13;
+        x *= 0xc2b2ae35;
+        x ^= x >>> 16;
+        return x;
+    }
+
+    /**
+     * Checks whether a and b are in the same set. Under concurrent unions the answer reflects
+     * some moment during the call.
+     *
+     * @param a The first element.
+     * @param b The second element.
+     * @return true if a and b are connected.
+     * @throws IllegalArgumentException if an element is out of bounds.
+     */
+    public boolean connected(int a, int b) {
+        checkElement(a);
+        checkElement(b);
+        while (true) {
+            int rootA = root(a);
+            int rootB = root(b);
+            if (rootA == rootB) {
+                return true;
+            }
+            // rootA is still a root, so the two sets were distinct when rootB was read
+            if (parent(rootA) == rootA) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the representative of every element.
+     * Should be called once all unions are done; concurrent unions may or may not be reflected.
+     *
+     * @return An array where labels[i] is the smallest element of i's set.
+     */
+    public int[] labels() {
+        int[] labels = new int[parent.length];
+        IntStream elements = IntStream.range(0, parent.length);
+        if (parent.length >= ArrayUtils.PARALLEL_THRESHOLD) {
+            elements = elements.parallel();
+        }
+        elements.forEach(i -> labels[i] = (int) PARENT.getVolatile(smallest, root(i)));
+        return labels;
+    }
+
+    /**
+     * Path-halving find without bounds checks.
+     */
+    int root(int x) {
+        while (true) {
+            int p = parent(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = parent(p);
+            if (grandparent != p) {
+                PARENT.compareAndSet(parent, x, p, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+
+    private int parent(int x) {
+        return (int) PARENT.getVolatile(parent, x);
+    }
+
+    private void checkElement(int x) {
+        if (x < 0 || x >= parent.length) {
+            throw new IllegalArgumentException("Element " + x + " out of bounds for size " + parent.length);
+        }
+    }
+}
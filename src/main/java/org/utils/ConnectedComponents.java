@@ -0,0 +1,56 @@
+package org.utils;
+
+/**
+ * Result of a connected components computation: a label for every node and the number of components.
+ * The label of a node is the smallest node index in its component, so labels do not depend on the
+ * order in which edges were processed.
+ */
+public final class ConnectedComponents {
+
+    private final int[] labels;
+    private final int count;
+
+    ConnectedComponents(int[] labels, int count) {
+        this.labels = labels;
+        this.count = count;
+    }
+
+    /**
+     * Returns the number of connected components.
+     *
+     * @return The component count.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the component label of a node.
+     *
+     * @param node The node index.
+     * @return The smallest node index in the node's component.
+     */
+    public int label(int node) {
+        return labels[node];
+    }
+
+    /**
+     * Checks whether two nodes are in the same component.
+     *
+     * @param u The first node.
+     * @param v The second node.
+     * @return true if u and v are connected.
+     */
+    public boolean connected(int u, int v) {
+        return labels[u] == labels[v];
+    }
+
+    /**
+     * Returns a copy of all labels.
+     *
+     * @return An array where labels[i] is the component label of node i.
+     */
+    public int[] labels() {
+        return labels.clone();
+    }
+}
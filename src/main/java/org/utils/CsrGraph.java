@@ -0,0 +1,268 @@
+package org.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable graph in compressed sparse row (CSR) form: the outgoing edges of node u are
+ * targets[offsets[u] .. offsets[u + 1]), with optional weights at the same positions.
+ * Compared with List<List<Integer>>, every edge costs 4 bytes (8 with weights) instead of a boxed
+ * Integer plus list overhead, and visiting the neighbors of a node is a scan over one contiguous
+ * array. Edges keep their insertion order per source node, so algorithms visit neighbors in the
+ * same order as on the list form. GraphUtils provides overloads of its algorithms for CsrGraph.
+ * Undirected graphs store every edge in both directions, as in the list form.
+ */
+public final class CsrGraph {
+
+    private final int numNodes;
+    private final int[] offsets;  // offsets[u] = index of the first edge of u, offsets[numNodes] = edge count
+    private final int[] targets;
+    private final int[] weights;  // null for unweighted graphs
+    private volatile CsrGraph transpose; // Built on first use
+
+    private CsrGraph(int numNodes, int[] offsets, int[] targets, int[] weights) {
+        this.numNodes = numNodes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds an unweighted graph from parallel edge arrays (edge i goes from sources[i] to targets[i]).
+     *
+     * @param numNodes Total number of nodes (0-indexed).
+     * @param sources The source node of every edge.
+     * @param targets The target node of every edge.
+     * @return The graph.
+     * @throws IllegalArgumentException if the arrays are null, differ in length, or a node is out of bounds.
+     */
+    public static CsrGraph fromEdges(int numNodes, int[] sources, int[] targets) {
+        return fromEdges(numNodes, sources, targets, null);
+    }
+
+    /**
+     * Builds a graph from parallel edge arrays with a counting sort by source node, in O(V + E).
+     *
+     * @param numNodes Total number of nodes (0-indexed).
+     * @param sources The source node of every edge.
+     * @param targets The target node of every edge.
+     * @param weights The weight of every edge, or null for an unweighted graph.
+     * @return The graph.
+     * @throws IllegalArgumentException if the arrays are null, differ in length, or a node is out of bounds.
+     */
+    public static CsrGraph fromEdges(int numNodes, int[] sources, int[] targets, int[] weights) {
+        if (numNodes < 0 || sources == null || targets == null || sources.length != targets.length
+                || (weights != null && weights.length != sources.length)) {
+            throw new IllegalArgumentException("Edge arrays must be non-null and of equal length.");
+        }
+        int[] offsets = new int[numNodes + 1];
+        for (int e = 0; e < sources.length; e++) {
+            checkNode(sources[e], numNodes);
+            checkNode(targets[e], numNodes);
+            offsets[sources[e] + 1]++;
+        }
+        for (int u = 0; u < numNodes; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        int[] next = new int[numNodes];
+        System.arraycopy(offsets, 0, next, 0, numNodes);
+        int[] sortedTargets = new int[targets.length];
+        int[] sortedWeights = weights == null ? null : new int[weights.length];
+        for (int e = 0; e < sources.length; e++) {
+            int slot = next[sources[e]]++;
+            sortedTargets[slot] = targets[e];
+            if (weights != null) {
+                sortedWeights[slot] = weights[e];
+            }
+        }
+        return new CsrGraph(numNodes, offsets, sortedTargets, sortedWeights);
+    }
+
+    /**
+     * Converts the adjacency list form used by GraphUtils into a CSR graph.
+     *
+     * @param adj Adjacency list representation of the graph.
+     * @param numNodes Total number of nodes.
+     * @return The graph.
+     * @throws IllegalArgumentException if the list does not match numNodes or a node is out of bounds.
+     */
+    public static CsrGraph fromAdjacency(List<List<Integer>> adj, int numNodes) {
+        if (adj == null || adj.size() != numNodes) {
+            throw new IllegalArgumentException("Adjacency list must match the number of nodes.");
+        }
+        int[] offsets = new int[numNodes + 1];
+        for (int u = 0; u < numNodes; u++) {
+            List<Integer> neighbors = adj.get(u);
+            if (neighbors == null) {
+                throw new IllegalArgumentException("Neighbor list cannot be null.");
+            }
+            offsets[u + 1] = offsets[u] + neighbors.size();
+        }
+        int[] targets = new int[offsets[numNodes]];
+        for (int u = 0; u < numNodes; u++) {
+            int slot = offsets[u];
+            for (int v : adj.get(u)) {
+                checkNode(v, numNodes);
+                targets[slot++] = v;
+            }
+        }
+        return new CsrGraph(numNodes, offsets, targets, null);
+    }
+
+    /**
+     * Converts the weighted adjacency form used by GraphUtils.shortestPathDijkstra
+     * (one map from neighbor to weight per node) into a weighted CSR graph.
+     *
+     * @param weightedAdj Adjacency list of neighbor-to-weight maps.
+     * @param numNodes Total number of nodes.
+     * @return The weighted graph.
+     * @throws IllegalArgumentException if the list does not match numNodes or a node is out of bounds.
+     */
+    public static CsrGraph fromWeightedAdjacency(List<Map<Integer, Integer>> weightedAdj, int numNodes) {
+        if (weightedAdj == null || weightedAdj.size() != numNodes) {
+            throw new IllegalArgumentException("Invalid weighted adjacency structure.");
+        }
+        int[] offsets = new int[numNodes + 1];
+        for (int u = 0; u < numNodes; u++) {
+            Map<Integer, Integer> neighbors = weightedAdj.get(u);
+            if (neighbors == null) {
+                throw new IllegalArgumentException("Neighbor map cannot be null.");
+            }
+            offsets[u + 1] = offsets[u] + neighbors.size();
+        }
+        int[] targets = new int[offsets[numNodes]];
+        int[] weights = new int[targets.length];
+        for (int u = 0; u < numNodes; u++) {
+            int slot = offsets[u];
+            for (Map.Entry<Integer, Integer> entry : weightedAdj.get(u).entrySet()) {
+                checkNode(entry.getKey(), numNodes);
+                targets[slot] = entry.getKey();
+                weights[slot++] = entry.getValue();
+            }
+        }
+        return new CsrGraph(numNodes, offsets, targets, weights);
+    }
+
+    private static void checkNode(int node, int numNodes) {
+        if (node < 0 || node >= numNodes) {
+            throw new IllegalArgumentException("Node index is out of bounds: " + node);
+        }
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return The node count.
+     */
+    public int numNodes() {
+        return numNodes;
+    }
+
+    /**
+     * Returns the number of (directed) edges.
+     *
+     * @return The edge count.
+     */
+    public int numEdges() {
+        return targets.length;
+    }
+
+    /**
+     * Checks whether the graph carries edge weights.
+     *
+     * @return true if the graph is weighted.
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Returns the out-degree of a node.
+     *
+     * @param node The node index.
+     * @return The number of outgoing edges.
+     */
+    public int degree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    /**
+     * Returns the index of the first outgoing edge of a node.
+     *
+     * @param node The node index.
+     * @return The first edge index.
+     */
+    public int edgeStart(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * Returns the exclusive end index of the outgoing edges of a node.
+     *
+     * @param node The node index.
+     * @return The end edge index.
+     */
+    public int edgeEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    /**
+     * Returns the target node of an edge.
+     *
+     * @param edge The edge index.
+     * @return The target node.
+     */
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Returns the weight of an edge.
+     *
+     * @param edge The edge index.
+     * @return The edge weight.
+     * @throws IllegalStateException if the graph is unweighted.
+     */
+    public int weight(int edge) {
+        if (weights == null) {
+            throw new IllegalStateException("Graph is unweighted.");
+        }
+        return weights[edge];
+    }
+
+    /**
+     * Returns the transposed graph (every edge reversed, weights kept), for algorithms that need
+     * incoming edges. It is built once in O(V + E) on first use and cached.
+     *
+     * @return The transposed graph.
+     */
+    public CsrGraph transpose() {
+        CsrGraph result = transpose;
+        if (result == null) {
+            int[] sources = new int[targets.length];
+            for (int u = 0; u < numNodes; u++) {
+                Arrays.fill(sources, offsets[u], offsets[u + 1], u);
+            }
+            result = fromEdges(numNodes, targets, sources, weights);
+            result.transpose = this;
+            transpose = result;
+        }
+        return result;
+    }
+
+    // Direct array access for the algorithms in this package (the arrays must not be modified)
+
+    int[] offsets() {
+        return offsets;
+    }
+
+    int[] targets() {
+        return targets;
+    }
+
+    int[] weights() {
+        return weights;
+    }
+}
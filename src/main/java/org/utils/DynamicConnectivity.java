@@ -0,0 +1,158 @@
+package org.utils;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Connectivity of an undirected graph that grows by edge insertions.
+ * Instead of re-running GraphUtils.countConnectedComponents or containsCycleUndirected after every
+ * insert (O(V + E) each), the components are kept in a ConcurrentUnionFind: an insert costs one
+ * near-constant union, tells whether the edge closed a cycle (its endpoints were already connected),
+ * and keeps the component count current.
+ * Edges are inserted in batches that become visible atomically. Writers are serialized; readers
+ * (connected, componentCount, snapshot) run concurrently with each other and with a writer using
+ * optimistic reads, and only wait for a batch in progress if one overlapped their read.
+ */
+public final class DynamicConnectivity {
+
+    private final StampedLock lock = new StampedLock();
+    private final ConcurrentUnionFind forest;
+    private volatile int components;
+    private volatile long edges;
+
+    /**
+     * Creates a graph with the given number of nodes and no edges.
+     *
+     * @param numNodes Total number of nodes (0-indexed).
+     * @throws IllegalArgumentException if numNodes is negative.
+     */
+    public DynamicConnectivity(int numNodes) {
+        if (numNodes < 0) {
+            throw new IllegalArgumentException("Number of nodes cannot be negative.");
+        }
+        forest = new ConcurrentUnionFind(numNodes);
+        components = numNodes;
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return The node count.
+     */
+    public int numNodes() {
+        return forest.size();
+    }
+
+    /**
+     * Returns the number of edges inserted so far.
+     *
+     * @return The edge count.
+     */
+    public long numEdges() {
+        return edges;
+    }
+
+    /**
+     * Returns the number of connected components after the last completed batch.
+     *
+     * @return The component count.
+     */
+    public int componentCount() {
+        return components;
+    }
+
+    /**
+     * Inserts one undirected edge.
+     *
+     * @param u The first endpoint.
+     * @param v The second endpoint.
+     * @return true if the edge closed a cycle (u and v were already connected, including u == v).
+     * @throws IllegalArgumentException if a node is out of bounds.
+     */
+    public boolean addEdge(int u, int v) {
+        return addEdges(new int[]{u}, new int[]{v})[0];
+    }
+
+    /**
+     * Inserts a batch of undirected edges u[i] - v[i] in order. The batch is validated first and
+     * becomes visible to readers as a whole.
+     *
+     * @param sources The first endpoint of every edge.
+     * @param targets The second endpoint of every edge.
+     * @return An array where cycle[i] is true if edge i closed a cycle given the edges before it.
+     * @throws IllegalArgumentException if the arrays are null, differ in length, or contain an
+     *                                  out-of-bounds node; no edge is inserted in that case.
+     */
+    public boolean[] addEdges(int[] sources, int[] targets) {
+        if (sources == null || targets == null || sources.length != targets.length) {
+            throw new IllegalArgumentException("Sources and targets must be non-null arrays of equal length.");
+        }
+        int n = forest.size();
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] < 0 || sources[i] >= n || targets[i] < 0 || targets[i] >= n) {
+                throw new IllegalArgumentException("Edge " + sources[i] + " - " + targets[i] + " is out of bounds.");
+            }
+        }
+
+        boolean[] cycle = new boolean[sources.length];
+        long stamp = lock.writeLock();
+        try {
+            int merged = 0;
+            for (int i = 0; i < sources.length; i++) {
+                if (forest.union(sources[i], targets[i])) {
+                    merged++;
+                } else {
+                    cycle[i] = true;
+                }
+            }
+            components -= merged;
+            edges += sources.length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return cycle;
+    }
+
+    /**
+     * Checks whether two nodes are connected by the edges of all completed batches.
+     *
+     * @param u The first node.
+     * @param v The second node.
+     * @return true if u and v are in the same component.
+     * @throws IllegalArgumentException if a node is out of bounds.
+     */
+    public boolean connected(int u, int v) {
+        long stamp = lock.tryOptimisticRead();
+        boolean result = forest.connected(u, v);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = forest.connected(u, v);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an immutable view of the components after the last completed batch, which later inserts
+     * do not change. Costs O(V).
+     *
+     * @return The component labels (smallest node of each component) and count.
+     */
+    public ConnectedComponents snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        int[] labels = forest.labels();
+        int count = components;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                labels = forest.labels();
+                count = components;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return new ConnectedComponents(labels, count);
+    }
+}
@@ -0,0 +1,156 @@
+package org.utils;
+
+import java.util.stream.IntStream;
+
+/**
+ * Fenwick tree (binary indexed tree) over an integer array for range sums with point updates.
+ * Both prefix sums and updates take O(log N); the tree is built in O(N).
+ * Sums are accumulated as long values, so they cannot overflow for any int input.
+ * Instances are not thread-safe: queries may run concurrently with each other, but updates
+ * must be synchronized externally.
+ */
+public final class FenwickTree {
+
+    /**
+     * Batches below this size are answered on the calling thread.
+     */
+    private static final int PARALLEL_BATCH_THRESHOLD = 1 << 12;
+
+    private final int[] values; // Current element values
+    private final long[] tree;  // tree[i] = sum of values[i - lowbit(i) .. i - 1], 1-based
+
+    /**
+     * Builds the tree for the given array. The array is copied, later changes to it are not
+     * reflected by the tree.
+     *
+     * @param arr The input integer array.
+     * @throws IllegalArgumentException if the array is null.
+     */
+    public FenwickTree(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null for Fenwick tree.");
+        }
+        values = arr.clone();
+        tree = new long[arr.length + 1];
+        for (int i = 1; i <= arr.length; i++) {
+            tree[i] += arr[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= arr.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return The array length.
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns the current value at the given index.
+     *
+     * @param index The element index.
+     * @return The element value.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Adds a delta to the element at the given index.
+     *
+     * @param index The element index.
+     * @param delta The amount to add.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     * @throws ArithmeticException if the element value overflows an int.
+     */
+    public void add(int index, int delta) {
+        checkIndex(index);
+        values[index] = Math.addExact(values[index], delta);
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index The element index.
+     * @param value The new value.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     */
+    public void set(int index, int value) {
+        checkIndex(index);
+        long delta = (long) value - values[index];
+        values[index] = value;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of arr[0] .. arr[to] (inclusive), or 0 if to is -1.
+     *
+     * @param to The ending index (inclusive).
+     * @return The prefix sum.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     */
+    public long prefixSum(int to) {
+        if (to < -1 || to >= values.length) {
+            throw new IllegalArgumentException("Index out of bounds for prefix sum: " + to);
+        }
+        long sum = 0;
+        for (int i = to + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of arr[from] .. arr[to] (both inclusive).
+     *
+     * @param from The starting index (inclusive).
+     * @param to The ending index (inclusive).
+     * @return The range sum.
+     * @throws IllegalArgumentException if the range is out of bounds or empty.
+     */
+    public long rangeSum(int from, int to) {
+        if (from < 0 || to >= values.length || from > to) {
+            throw new IllegalArgumentException("Invalid range for range sum: [" + from + ", " + to + "]");
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    /**
+     * Answers many range sum queries at once, in parallel for large batches.
+     *
+     * @param from The starting indices (inclusive).
+     * @param to The ending indices (inclusive), one per starting index.
+     * @return An array where result[q] is rangeSum(from[q], to[q]).
+     * @throws IllegalArgumentException if the arrays are null, differ in length, or a range is invalid.
+     */
+    public long[] rangeSum(int[] from, int[] to) {
+        if (from == null || to == null || from.length != to.length) {
+            throw new IllegalArgumentException("Query bounds must be non-null arrays of equal length.");
+        }
+        long[] result = new long[from.length];
+        IntStream queries = IntStream.range(0, from.length);
+        if (from.length >= PARALLEL_BATCH_THRESHOLD) {
+            queries = queries.parallel();
+        }
+        queries.forEach(q -> result[q] = rangeSum(from[q], to[q]));
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IllegalArgumentException("Index out of bounds: " + index);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.utils;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,7 +12,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.SplittableRandom;
 import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
 
 /**
  * Utility class containing various graph manipulation and algorithm functions.
@@ -125,10 +131,12 @@ public final class GraphUtils {
     public static boolean containsCycleUndirected(List<List<Integer>> adj, int numNodes) {
         validateGraph(adj, numNodes);
         boolean[] visited = new boolean[numNodes];
+        int[] stack = new int[numNodes];
+        int[] parent = new int[numNodes];
 
         for (int i = 0; i < numNodes; i++) {
             if (!visited[i]) {
-                if (isCyclicDFS(adj, i, visited, -1)) {
+                if (isCyclicDFS(adj, i, visited, stack, parent)) {
                     return true;
                 }
             }
@@ -137,18 +145,33 @@ public final class GraphUtils {
     }
 
     /**
-     * Helper for cycle detection (DFS with parent node).
+     * Cycle detection for undirected graphs: an iterative DFS from a start node that marks every
+     * reachable node as visited. Uses an explicit int stack instead of recursion, so deep graphs such
+     * as long paths cannot overflow the call stack. Nodes are marked when pushed and remember the node
+     * they were discovered from (parent), so every edge other than the one back to the parent that
+     * reaches a marked node closes a cycle. Both arrays must have room for numNodes entries.
+     *
+     * @return true if a cycle was detected, false otherwise.
      */
-    private static boolean isCyclicDFS(List<List<Integer>> adj, int u, boolean[] visited, int parent) {
-        visited[u] = true;
-        for (int v : adj.get(u)) {
-            if (!visited[v]) {
-                if (isCyclicDFS(adj, v, visited, u)) {
+    private static boolean isCyclicDFS(List<List<Integer>> adj, int start, boolean[] visited,
+                                       int[] stack, int[] parent) {
+        visited[start] = true;
+        parent[start] = -1;
+        stack[0] = start;
+        int size = 1;
+
+        while (size > 0) {
+            int u = stack[--size];
+            int p = parent[u];
+            for (int v : adj.get(u)) {
+                if (!visited[v]) {
+                    visited[v] = true;
+                    parent[v] = u;
+                    stack[size++] = v;
+                } else if (v != p) {
+                    // A visited node that is not the immediate parent closes a cycle.
                     return true;
                 }
-            } else if (v != parent) {
-                // If a visited node is encountered and it's not the immediate parent, a cycle exists.
-                return true;
             }
         }
         return false;
@@ -239,7 +262,7 @@ public final class GraphUtils {
 
         // 1. Check for cycles (using modified DFS with parent tracking)
         boolean[] visited = new boolean[numNodes];
-        if (isCyclicDFS(adj, 0, visited, -1)) {
+        if (isCyclicDFS(adj, 0, visited, new int[numNodes], new int[numNodes])) {
             return false;
         }
 
@@ -271,12 +294,13 @@ public final class GraphUtils {
     public static int countConnectedComponents(List<List<Integer>> adj, int numNodes) {
         validateGraph(adj, numNodes);
         boolean[] visited = new boolean[numNodes];
+        int[] stack = new int[numNodes];
         int count = 0;
 
         for (int i = 0; i < numNodes; i++) {
             if (!visited[i]) {
                 // Found a new component, perform DFS/BFS to mark all nodes in it
-                dfsHelper(adj, i, visited);
+                markComponent(adj, i, visited, stack);
                 count++;
             }
         }
@@ -284,13 +308,21 @@ public final class GraphUtils {
     }
 
     /**
-     * Private recursive DFS helper for connectivity.
+     * Marks every node reachable from start as visited, using an explicit int stack instead of recursion.
+     * Nodes are marked when pushed, so each node enters the stack at most once and the stack needs at
+     * most numNodes entries.
      */
-    private static void dfsHelper(List<List<Integer>> adj, int u, boolean[] visited) {
-        visited[u] = true;
-        for (int v : adj.get(u)) {
-            if (!visited[v]) {
-                dfsHelper(adj, v, visited);
+    private static void markComponent(List<List<Integer>> adj, int start, boolean[] visited, int[] stack) {
+        visited[start] = true;
+        stack[0] = start;
+        int size = 1;
+        while (size > 0) {
+            int u = stack[--size];
+            for (int v : adj.get(u)) {
+                if (!visited[v]) {
+                    visited[v] = true;
+                    stack[size++] = v;
+                }
             }
         }
     }
@@ -394,4 +426,1192 @@ public final class GraphUtils {
         }
         return inDegree;
     }
-}
\ No newline at end of file
+
+    // --- CSR Graph Overloads ---
+    // Same algorithms on CsrGraph: no boxing, neighbors are contiguous, and queues/stacks are int arrays.
+
+    private static void validateGraph(CsrGraph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph cannot be null.");
+        }
+    }
+
+    private static void validateNode(CsrGraph graph, int node, String name) {
+        if (node < 0 || node >= graph.numNodes()) {
+            throw new IllegalArgumentException(name + " is out of bounds.");
+        }
+    }
+
+    /**
+     * BFS shortest path distances from a start node on a CSR graph (unweighted).
+     *
+     * @param graph The graph.
+     * @param startNode The starting node for BFS.
+     * @return An array where distance[i] is the shortest distance from startNode to i (-1 if unreachable).
+     */
+    public static int[] shortestPathBFS(CsrGraph graph, int startNode) {
+        validateGraph(graph);
+        validateNode(graph, startNode, "Start node");
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+
+        int[] distance = new int[graph.numNodes()];
+        Arrays.fill(distance, -1);
+        int[] queue = new int[graph.numNodes()]; // Every node is enqueued at most once
+        int head = 0;
+        int tail = 0;
+
+        distance[startNode] = 0;
+        queue[tail++] = startNode;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (distance[v] == -1) {
+                    distance[v] = distance[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * DFS traversal of all nodes reachable from a start node on a CSR graph,
+     * visiting nodes in the same order as traverseDFS on the list form.
+     *
+     * @param graph The graph.
+     * @param startNode The starting node.
+     * @return The nodes in visiting order (empty if the start node is out of bounds).
+     */
+    public static int[] traverseDFS(CsrGraph graph, int startNode) {
+        validateGraph(graph);
+        if (startNode < 0 || startNode >= graph.numNodes()) {
+            return new int[0];
+        }
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+
+        boolean[] visited = new boolean[graph.numNodes()];
+        int[] stack = new int[graph.numNodes()];
+        int[] result = new int[graph.numNodes()];
+        int top = 0;
+        int count = 0;
+
+        stack[top++] = startNode;
+        visited[startNode] = true;
+        while (top > 0) {
+            int u = stack[--top];
+            result[count++] = u;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (!visited[v]) {
+                    visited[v] = true;
+                    stack[top++] = v;
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Computes the maximum out-degree of any node of a CSR graph.
+     *
+     * @param graph The graph.
+     * @return The maximum degree, or -1 if the graph is null or empty.
+     */
+    public static int maxDegree(CsrGraph graph) {
+        if (graph == null || graph.numNodes() == 0) {
+            return -1;
+        }
+        int maxDeg = 0;
+        for (int u = 0; u < graph.numNodes(); u++) {
+            maxDeg = Math.max(maxDeg, graph.degree(u));
+        }
+        return maxDeg;
+    }
+
+    /**
+     * Computes the indegree of every node of a directed CSR graph.
+     *
+     * @param graph The graph.
+     * @return An array where indegree[i] is the number of incoming edges to node i.
+     */
+    public static int[] computeIndegrees(CsrGraph graph) {
+        validateGraph(graph);
+        int[] inDegree = new int[graph.numNodes()];
+        for (int v : graph.targets()) {
+            inDegree[v]++;
+        }
+        return inDegree;
+    }
+
+    /**
+     * Topological sort of a directed CSR graph with Kahn's algorithm.
+     *
+     * @param graph The graph.
+     * @return The nodes in topological order, or an empty array if a cycle is present.
+     */
+    public static int[] topologicalSortKahn(CsrGraph graph) {
+        int[] inDegree = computeIndegrees(graph);
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int n = graph.numNodes();
+
+        // The result array doubles as the queue: nodes are appended when their indegree drops to 0
+        int[] order = new int[n];
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (--inDegree[targets[e]] == 0) {
+                    order[tail++] = targets[e];
+                }
+            }
+        }
+        return tail == n ? order : new int[0];
+    }
+
+    /**
+     * Counts the connected components of an undirected CSR graph with an iterative DFS.
+     *
+     * @param graph The graph (every edge stored in both directions).
+     * @return The number of connected components.
+     */
+    public static int countConnectedComponents(CsrGraph graph) {
+        validateGraph(graph);
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int n = graph.numNodes();
+
+        boolean[] visited = new boolean[n];
+        int[] stack = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (visited[i]) {
+                continue;
+            }
+            count++;
+            int top = 0;
+            stack[top++] = i;
+            visited[i] = true;
+            while (top > 0) {
+                int u = stack[--top];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        stack[top++] = v;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Dijkstra's algorithm on a weighted CSR graph, with the same results as the list-based version.
+     *
+     * @param graph The weighted graph.
+     * @param startNode The source node.
+     * @return An array of shortest distances from the start node (Integer.MAX_VALUE if unreachable).
+     * @throws IllegalArgumentException if the graph is null or unweighted, or the start node is out of bounds.
+     */
+    public static int[] shortestPathDijkstra(CsrGraph graph, int startNode) {
+        validateGraph(graph);
+        if (!graph.isWeighted()) {
+            throw new IllegalArgumentException("Dijkstra requires a weighted graph.");
+        }
+        validateNode(graph, startNode, "Start node");
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+
+        int[] dist = new int[graph.numNodes()];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[startNode] = 0;
+
+        PriorityQueue<int[]> pq = new PriorityQueue<>(Comparator.comparingInt(a -> a[0]));
+        pq.add(new int[]{0, startNode});
+        while (!pq.isEmpty()) {
+            int[] current = pq.poll();
+            int u = current[1];
+            if (current[0] > dist[u]) {
+                continue;
+            }
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (dist[u] + weights[e] < dist[v]) {
+                    dist[v] = dist[u] + weights[e];
+                    pq.add(new int[]{dist[v], v});
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Dijkstra's algorithm on a weighted CSR graph with an indexed 4-ary heap.
+     * Every node is in the heap at most once (shorter tentative distances decrease its key instead
+     * of adding stale entries), no objects are allocated per edge, and distances are longs, so paths
+     * longer than Integer.MAX_VALUE are reported correctly. (O((V + E) log V) time, O(V) extra space)
+     *
+     * @param graph The weighted graph (non-negative weights).
+     * @param startNode The source node.
+     * @return The distances and predecessors of all nodes.
+     * @throws IllegalArgumentException if the graph is null, unweighted or has a negative weight,
+     *                                  or the start node is out of bounds.
+     */
+    public static ShortestPathTree shortestPathTree(CsrGraph graph, int startNode) {
+        return shortestPathTree(graph, startNode, -1);
+    }
+
+    /**
+     * Dijkstra's algorithm with early termination: the search stops as soon as the target node
+     * is settled. The distance and path of the target (and of every node settled before it) are
+     * exact; other nodes keep tentative upper bounds or UNREACHABLE.
+     *
+     * @param graph The weighted graph (non-negative weights).
+     * @param startNode The source node.
+     * @param targetNode The node to stop at, or -1 to compute the distances of all nodes.
+     * @return The distances and predecessors.
+     * @throws IllegalArgumentException if the graph is null, unweighted or has a negative weight,
+     *                                  or a node is out of bounds.
+     */
+    public static ShortestPathTree shortestPathTree(CsrGraph graph, int startNode, int targetNode) {
+        validateWeightedGraph(graph);
+        validateNode(graph, startNode, "Start node");
+        if (targetNode != -1) {
+            validateNode(graph, targetNode, "Target node");
+        }
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] weights = graph.weights();
+        int n = graph.numNodes();
+
+        long[] dist = new long[n];
+        int[] predecessor = new int[n];
+        Arrays.fill(dist, ShortestPathTree.UNREACHABLE);
+        Arrays.fill(predecessor, -1);
+        dist[startNode] = 0;
+
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+        heap.insertOrDecrease(startNode, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            if (u == targetNode) {
+                break;
+            }
+            long du = dist[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                long candidate = du + weights[e];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    predecessor[v] = u;
+                    heap.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+        return new ShortestPathTree(startNode, dist, predecessor);
+    }
+
+    private static void validateWeightedGraph(CsrGraph graph) {
+        validateGraph(graph);
+        if (!graph.isWeighted()) {
+            throw new IllegalArgumentException("Shortest path computation requires a weighted graph.");
+        }
+        for (int w : graph.weights()) {
+            if (w < 0) {
+                throw new IllegalArgumentException("Edge weights must be non-negative: " + w);
+            }
+        }
+    }
+
+    // --- Parallel Graph Algorithms ---
+
+    /**
+     * Direction-optimizing BFS switches to bottom-up when the frontier is growing and its outgoing
+     * edges exceed the unexplored edges divided by this factor (Beamer et al.).
+     */
+    static final int BFS_ALPHA = 15;
+
+    /**
+     * Direction-optimizing BFS switches back to top-down when the frontier is shrinking and holds
+     * fewer than numNodes / BFS_BETA nodes.
+     */
+    static final int BFS_BETA = 18;
+
+    /**
+     * Frontiers below this size are expanded on the calling thread.
+     */
+    private static final int PARALLEL_FRONTIER_THRESHOLD = 1 << 10;
+
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+    /**
+     * Parallel direction-optimizing BFS, returning the same distances as shortestPathBFS.
+     * Small frontiers are expanded top-down: frontier nodes are split across the common ForkJoinPool
+     * and every newly reached node is claimed with a compare-and-set on its distance, so it enters
+     * the next frontier exactly once. Large frontiers switch to bottom-up steps: every unvisited node
+     * scans its incoming edges for a parent in a bitmap of the frontier and stops at the first hit,
+     * which skips most edges once the frontier covers a large part of the graph. Bottom-up steps own
+     * disjoint 64-node blocks of the bitmap, so they need no atomics. Only a growing frontier switches
+     * to bottom-up and only a shrinking one switches back, so the long, thin tail of a high-diameter
+     * graph stays top-down instead of paying an O(n) bottom-up scan on alternate levels once few
+     * unexplored edges remain. Graphs below ArrayUtils.PARALLEL_THRESHOLD nodes use the sequential BFS.
+     *
+     * @param graph The graph (bottom-up steps use graph.transpose() for incoming edges).
+     * @param startNode The starting node for BFS.
+     * @return An array where distance[i] is the shortest distance from startNode to i (-1 if unreachable).
+     */
+    public static int[] shortestPathBFSParallel(CsrGraph graph, int startNode) {
+        validateGraph(graph);
+        validateNode(graph, startNode, "Start node");
+        int n = graph.numNodes();
+        if (n < ArrayUtils.PARALLEL_THRESHOLD) {
+            return shortestPathBFS(graph, startNode);
+        }
+
+        int[] distance = new int[n];
+        Arrays.fill(distance, -1);
+        distance[startNode] = 0;
+
+        int[] frontier = {startNode};
+        long[] frontierBits = null;
+        long frontierSize = 1;
+        long previousSize = 0;
+        long frontierEdges = graph.degree(startNode);
+        long unexploredEdges = graph.numEdges();
+        boolean bottomUp = false;
+
+        for (int level = 0; frontierSize > 0; level++) {
+            boolean growing = frontierSize > previousSize;
+            previousSize = frontierSize;
+            if (!bottomUp && growing && frontierEdges > unexploredEdges / BFS_ALPHA) {
+                bottomUp = true;
+                frontierBits = toBitmap(frontier, n);
+            } else if (bottomUp && !growing && frontierSize < n / BFS_BETA) {
+                bottomUp = false;
+                frontier = fromBitmap(frontierBits, frontierSize);
+            }
+            unexploredEdges -= frontierEdges;
+
+            if (bottomUp) {
+                long[] next = new long[frontierBits.length];
+                long[] stats = bottomUpStep(graph, distance, frontierBits, next, level + 1);
+                frontierBits = next;
+                frontierSize = stats[0];
+                frontierEdges = stats[1];
+            } else {
+                frontier = topDownStep(graph, distance, frontier, level + 1);
+                frontierSize = frontier.length;
+                int[] offsets = graph.offsets();
+                int[] current = frontier;
+                IntStream nodes = IntStream.range(0, current.length);
+                if (current.length >= PARALLEL_FRONTIER_THRESHOLD) {
+                    nodes = nodes.parallel();
+                }
+                frontierEdges = nodes.mapToLong(i -> offsets[current[i] + 1] - offsets[current[i]]).sum();
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * Expands the frontier along outgoing edges; returns the nodes reached for the first time.
+     */
+    private static int[] topDownStep(CsrGraph graph, int[] distance, int[] frontier, int nextLevel) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int blocks = frontier.length < PARALLEL_FRONTIER_THRESHOLD ? 1 : ForkJoinPool.commonPool().getParallelism() * 4;
+        int blockSize = (frontier.length + blocks - 1) / blocks;
+
+        IntStream blockRange = IntStream.range(0, blocks);
+        if (blocks > 1) {
+            blockRange = blockRange.parallel();
+        }
+        int[][] parts = blockRange.mapToObj(b -> {
+            int[] found = new int[16];
+            int count = 0;
+            for (int i = b * blockSize, end = Math.min(frontier.length, (b + 1) * blockSize); i < end; i++) {
+                int u = frontier[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (distance[v] == -1 && INT_ARRAY.compareAndSet(distance, v, -1, nextLevel)) {
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = v;
+                    }
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }).toArray(int[][]::new);
+
+        int total = 0;
+        for (int[] part : parts) {
+            total += part.length;
+        }
+        int[] next = new int[total];
+        int position = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, next, position, part.length);
+            position += part.length;
+        }
+        return next;
+    }
+
+    /**
+     * Lets every unvisited node look for a parent in the frontier bitmap along its incoming edges.
+     *
+     * @return {number of nodes reached, sum of their out-degrees}.
+     */
+    private static long[] bottomUpStep(CsrGraph graph, int[] distance, long[] frontierBits, long[] next, int nextLevel) {
+        int[] offsets = graph.offsets();
+        CsrGraph incoming = graph.transpose();
+        int[] inOffsets = incoming.offsets();
+        int[] sources = incoming.targets();
+        int n = distance.length;
+        int words = frontierBits.length;
+        int blocks = ForkJoinPool.commonPool().getParallelism() * 4;
+        int wordsPerBlock = (words + blocks - 1) / blocks;
+
+        return IntStream.range(0, blocks).parallel().mapToObj(b -> {
+            long count = 0;
+            long edges = 0;
+            for (int w = b * wordsPerBlock, endWord = Math.min(words, (b + 1) * wordsPerBlock); w < endWord; w++) {
+                long found = 0;
+                for (int v = w << 6, end = Math.min(n, (w + 1) << 6); v < end; v++) {
+                    if (distance[v] != -1) {
+                        continue;
+                    }
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        int u = sources[e];
+                        if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                            distance[v] = nextLevel;
+                            found |= 1L << v;
+                            count++;
+                            edges += offsets[v + 1] - offsets[v];
+                            break;
+                        }
+                    }
+                }
+                next[w] = found;
+            }
+            return new long[]{count, edges};
+        }).reduce(new long[2], (a, c) -> new long[]{a[0] + c[0], a[1] + c[1]});
+    }
+
+    private static long[] toBitmap(int[] nodes, int n) {
+        long[] bits = new long[(n + 63) >>> 6];
+        for (int u : nodes) {
+            bits[u >>> 6] |= 1L << u;
+        }
+        return bits;
+    }
+
+    private static int[] fromBitmap(long[] bits, long size) {
+        int[] nodes = new int[(int) size];
+        int count = 0;
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                nodes[count++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Receives the results of multiSourceBFS one (source, node, distance) triple at a time.
+     */
+    @FunctionalInterface
+    public interface BfsVisitor {
+
+        /**
+         * Called once for every node reached from a source.
+         *
+         * @param sourceIndex The index of the source in the sources array.
+         * @param node The node reached.
+         * @param distance The BFS distance from the source to the node.
+         */
+        void visit(int sourceIndex, int node, int distance);
+    }
+
+    /**
+     * Multi-source BFS: computes the BFS distances from every given source at once.
+     *
+     * @param graph The graph.
+     * @param sources The start nodes (duplicates allowed).
+     * @return A matrix where distance[i][v] is the distance from sources[i] to v (-1 if unreachable).
+     * @throws IllegalArgumentException if the graph or sources is null, or a source is out of bounds.
+     */
+    public static int[][] multiSourceBFS(CsrGraph graph, int[] sources) {
+        validateGraph(graph);
+        if (sources == null) {
+            throw new IllegalArgumentException("Sources cannot be null.");
+        }
+        int[][] distance = new int[sources.length][graph.numNodes()];
+        for (int[] row : distance) {
+            Arrays.fill(row, -1);
+        }
+        multiSourceBFS(graph, sources, (source, node, d) -> distance[source][node] = d);
+        return distance;
+    }
+
+    /**
+     * Multi-source BFS (MS-BFS, Then et al.) that streams its results to a visitor.
+     * Sources are processed in batches of 64: every node keeps one 64-bit mask of the batch's sources
+     * that have seen it and one of the sources whose frontier contains it, so a single pass over the
+     * frontier advances all 64 searches by one level and every edge visit is shared between them.
+     * Like shortestPathBFSParallel, each level picks a direction: while the frontier's outgoing edges
+     * stay below numEdges / BFS_ALPHA, only the frontier nodes are expanded top-down (OR-ing their
+     * masks into their out-neighbors), so sparse levels, such as those of long paths, cost only their
+     * own edges. Larger frontiers are computed bottom-up: each node not yet seen by all sources ORs the
+     * frontier masks of its incoming neighbors, which lets node ranges be processed in parallel without
+     * synchronization.
+     * The visitor may be called from several threads at once, but all calls for one node and level
+     * come from the same thread; writing into per-source arrays is therefore safe.
+     *
+     * @param graph The graph (bottom-up levels use graph.transpose() for incoming edges).
+     * @param sources The start nodes (duplicates allowed).
+     * @param visitor Receives (source index, node, distance) for every reached node, including the
+     *                sources themselves at distance 0.
+     * @throws IllegalArgumentException if an argument is null or a source is out of bounds.
+     */
+    public static void multiSourceBFS(CsrGraph graph, int[] sources, BfsVisitor visitor) {
+        validateGraph(graph);
+        if (sources == null || visitor == null) {
+            throw new IllegalArgumentException("Sources and visitor cannot be null.");
+        }
+        for (int source : sources) {
+            validateNode(graph, source, "Source node");
+        }
+        int n = graph.numNodes();
+        int[] offsets = graph.offsets();
+        long bottomUpEdges = graph.numEdges() / BFS_ALPHA;
+
+        long[] seen = new long[n];
+        long[] visit = new long[n];
+        long[] visitNext = new long[n];
+        for (int batchStart = 0; batchStart < sources.length; batchStart += Long.SIZE) {
+            int batchSize = Math.min(Long.SIZE, sources.length - batchStart);
+            int base = batchStart;
+            Arrays.fill(seen, 0);
+            Arrays.fill(visit, 0);
+            Arrays.fill(visitNext, 0);
+
+            // Frontier: the distinct nodes whose visit mask is non-zero
+            int[] frontier = new int[batchSize];
+            int frontierSize = 0;
+            long frontierEdges = 0;
+            for (int i = 0; i < batchSize; i++) {
+                int source = sources[base + i];
+                if (visit[source] == 0) {
+                    frontier[frontierSize++] = source;
+                    frontierEdges += offsets[source + 1] - offsets[source];
+                }
+                seen[source] |= 1L << i;
+                visit[source] |= 1L << i;
+                visitor.visit(base + i, source, 0);
+            }
+
+            long all = batchSize == Long.SIZE ? -1L : (1L << batchSize) - 1;
+            for (int level = 1; frontierSize > 0; level++) {
+                int[] nextFrontier;
+                if (frontierEdges <= bottomUpEdges) {
+                    nextFrontier = msTopDownStep(graph, seen, visit, visitNext, frontier, frontierSize, base, level, visitor);
+                    // Only the frontier nodes have non-zero masks in visit
+                    for (int i = 0; i < frontierSize; i++) {
+                        visit[frontier[i]] = 0;
+                    }
+                } else {
+                    nextFrontier = msBottomUpStep(graph, seen, visit, visitNext, all, base, level, visitor);
+                    Arrays.fill(visit, 0);
+                }
+                long[] swap = visit;
+                visit = visitNext;
+                visitNext = swap;
+
+                frontier = nextFrontier;
+                frontierSize = nextFrontier.length;
+                frontierEdges = 0;
+                for (int v : nextFrontier) {
+                    frontierEdges += offsets[v + 1] - offsets[v];
+                }
+            }
+        }
+    }
+
+    /**
+     * Top-down MS-BFS level: pushes the masks of the frontier nodes to their out-neighbors.
+     * next must be all zero on entry; on return it holds the masks of the new frontier only.
+     *
+     * @return The nodes of the new frontier.
+     */
+    private static int[] msTopDownStep(CsrGraph graph, long[] seen, long[] visit, long[] next,
+                                       int[] frontier, int frontierSize, int base, int level, BfsVisitor visitor) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int[] touched = new int[16];
+        int touchedSize = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            int u = frontier[i];
+            long mask = visit[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int w = targets[e];
+                if ((mask & ~seen[w] & ~next[w]) == 0) {
+                    continue;
+                }
+                if (next[w] == 0) {
+                    if (touchedSize == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedSize * 2);
+                    }
+                    touched[touchedSize++] = w;
+                }
+                next[w] |= mask & ~seen[w];
+            }
+        }
+        // Every touched node gained at least one unseen source bit
+        for (int i = 0; i < touchedSize; i++) {
+            int w = touched[i];
+            long reached = next[w];
+            seen[w] |= reached;
+            for (long bits = reached; bits != 0; bits &= bits - 1) {
+                visitor.visit(base + Long.numberOfTrailingZeros(bits), w, level);
+            }
+        }
+        return Arrays.copyOf(touched, touchedSize);
+    }
+
+    /**
+     * Bottom-up MS-BFS level: every node ORs the frontier masks of its incoming neighbors, in parallel
+     * for large graphs. Writes next for every node.
+     *
+     * @return The nodes of the new frontier.
+     */
+    private static int[] msBottomUpStep(CsrGraph graph, long[] seen, long[] frontier, long[] next,
+                                        long all, int base, int level, BfsVisitor visitor) {
+        CsrGraph incoming = graph.transpose();
+        int[] inOffsets = incoming.offsets();
+        int[] inSources = incoming.targets();
+        return nodeRange(graph.numNodes()).filter(v -> {
+            long unseen = all & ~seen[v];
+            long reached = 0;
+            for (int e = inOffsets[v]; e < inOffsets[v + 1] && reached != unseen; e++) {
+                reached |= frontier[inSources[e]];
+            }
+            reached &= unseen;
+            next[v] = reached;
+            if (reached == 0) {
+                return false;
+            }
+            seen[v] |= reached;
+            for (long bits = reached; bits != 0; bits &= bits - 1) {
+                visitor.visit(base + Long.numberOfTrailingZeros(bits), v, level);
+            }
+            return true;
+        }).toArray();
+    }
+
+    /**
+     * Number of initial edges per node that Afforest links before sampling the largest component.
+     */
+    static final int AFFOREST_NEIGHBOR_ROUNDS = 2;
+
+    /**
+     * Number of nodes Afforest samples to find the largest intermediate component.
+     */
+    private static final int AFFOREST_SAMPLES = 1024;
+
+    /**
+     * Computes the connected components of an undirected graph in parallel with the Afforest algorithm
+     * (Sutton et al.) on a lock-free ConcurrentUnionFind.
+     * First only the first AFFOREST_NEIGHBOR_ROUNDS edges of every node are linked, which already
+     * merges most of a typical graph into one giant component. A random sample of nodes then
+     * identifies that component, and the final parallel pass skips every node already in it, so most
+     * of the remaining edges are never touched. All passes run on the common ForkJoinPool.
+     * Skipping is only valid because every edge is stored in both directions; for one-directional
+     * edges the result may miss connections.
+     *
+     * @param graph An undirected graph (every edge u->v also stored as v->u).
+     * @return The component labels (smallest node index of each component) and the component count.
+     * @throws IllegalArgumentException if the graph is null.
+     */
+    public static ConnectedComponents connectedComponentsAfforest(CsrGraph graph) {
+        validateGraph(graph);
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int n = graph.numNodes();
+        ConcurrentUnionFind forest = new ConcurrentUnionFind(n);
+
+        // 1. Link a few neighbors of every node
+        for (int round = 0; round < AFFOREST_NEIGHBOR_ROUNDS; round++) {
+            int r = round;
+            nodeRange(n).forEach(u -> {
+                int e = offsets[u] + r;
+                if (e < offsets[u + 1]) {
+                    forest.union(u, targets[e]);
+                }
+            });
+        }
+
+        // 2. Sample the most frequent root, likely the giant component
+        int largest = n == 0 ? -1 : sampleFrequentRoot(forest, n);
+
+        // 3. Finish the remaining edges of nodes outside that component
+        nodeRange(n).forEach(u -> {
+            if (forest.root(u) == largest) {
+                return;
+            }
+            for (int e = offsets[u] + AFFOREST_NEIGHBOR_ROUNDS; e < offsets[u + 1]; e++) {
+                forest.union(u, targets[e]);
+            }
+        });
+
+        int[] labels = forest.labels();
+        int count = (int) nodeRange(n).filter(u -> labels[u] == u).count();
+        return new ConnectedComponents(labels, count);
+    }
+
+    /**
+     * Returns the root that occurs most often among AFFOREST_SAMPLES randomly chosen nodes.
+     */
+    private static int sampleFrequentRoot(ConcurrentUnionFind forest, int n) {
+        SplittableRandom random = new SplittableRandom(n);
+        int[] roots = new int[AFFOREST_SAMPLES];
+        for (int i = 0; i < roots.length; i++) {
+            roots[i] = forest.root(random.nextInt(n));
+        }
+        Arrays.sort(roots);
+        int best = roots[0];
+        int bestRun = 0;
+        for (int i = 0, run = 0; i < roots.length; i++) {
+            run = (i > 0 && roots[i] == roots[i - 1]) ? run + 1 : 1;
+            if (run > bestRun) {
+                bestRun = run;
+                best = roots[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Stream over the nodes 0 .. n - 1, parallel for large graphs.
+     */
+    private static IntStream nodeRange(int n) {
+        IntStream nodes = IntStream.range(0, n);
+        return n >= ArrayUtils.PARALLEL_THRESHOLD ? nodes.parallel() : nodes;
+    }
+
+    /**
+     * Level-synchronous parallel topological sort (Kahn's algorithm by frontiers).
+     * All nodes whose indegree has dropped to zero form the next frontier and are expanded together:
+     * large frontiers are split into blocks on the common ForkJoinPool and indegrees are decremented
+     * atomically, so the node that removes the last incoming edge of a target is the one that adds it
+     * to the next level. The level of every node is recorded on the way.
+     * If nodes remain after the last frontier, the graph is cyclic, and one cycle is extracted by
+     * walking backwards from a remaining node along incoming edges of other remaining nodes (each has
+     * one, since its indegree never reached zero) until a node repeats.
+     *
+     * @param graph The directed graph.
+     * @return The levels and grouped order, or the offending cycle if the graph is not a DAG.
+     * @throws IllegalArgumentException if the graph is null.
+     */
+    public static TopologicalLevels topologicalLevels(CsrGraph graph) {
+        int[] inDegree = computeIndegrees(graph);
+        int n = graph.numNodes();
+        int[] levels = new int[n];
+        Arrays.fill(levels, -1);
+
+        // The order array holds the frontiers back to back: order[start .. end) is the current level
+        int[] order = new int[n];
+        int end = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                levels[i] = 0;
+                order[end++] = i;
+            }
+        }
+        int depth = 0;
+        for (int start = 0; start < end; depth++) {
+            int[] next = kahnStep(graph, inDegree, order, start, end);
+            for (int v : next) {
+                levels[v] = depth + 1;
+            }
+            System.arraycopy(next, 0, order, end, next.length);
+            start = end;
+            end += next.length;
+        }
+
+        if (end == n) {
+            return new TopologicalLevels(order, levels, depth, new int[0]);
+        }
+        Arrays.fill(levels, -1);
+        return new TopologicalLevels(new int[0], levels, 0, findCycle(graph, inDegree));
+    }
+
+    /**
+     * Removes the outgoing edges of order[start .. end); returns the nodes whose indegree dropped to zero.
+     */
+    private static int[] kahnStep(CsrGraph graph, int[] inDegree, int[] order, int start, int end) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int size = end - start;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        // With a single worker the atomic decrements would only add overhead
+        int blocks = size < PARALLEL_FRONTIER_THRESHOLD || parallelism == 1 ? 1 : parallelism * 4;
+        int blockSize = (size + blocks - 1) / blocks;
+
+        IntStream blockRange = IntStream.range(0, blocks);
+        if (blocks > 1) {
+            blockRange = blockRange.parallel();
+        }
+        int[][] parts = blockRange.mapToObj(b -> {
+            int[] found = new int[16];
+            int count = 0;
+            for (int i = start + b * blockSize, blockEnd = Math.min(end, start + (b + 1) * blockSize); i < blockEnd; i++) {
+                int u = order[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    boolean ready = blocks > 1 ? (int) INT_ARRAY.getAndAdd(inDegree, v, -1) == 1 : --inDegree[v] == 0;
+                    if (ready) {
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = v;
+                    }
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }).toArray(int[][]::new);
+
+        if (parts.length == 1) {
+            return parts[0];
+        }
+        int total = 0;
+        for (int[] part : parts) {
+            total += part.length;
+        }
+        int[] next = new int[total];
+        int position = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, next, position, part.length);
+            position += part.length;
+        }
+        return next;
+    }
+
+    /**
+     * Extracts a cycle from the nodes Kahn's algorithm could not remove (remaining indegree > 0).
+     */
+    private static int[] findCycle(CsrGraph graph, int[] inDegree) {
+        CsrGraph incoming = graph.transpose();
+        int n = graph.numNodes();
+        int[] stepOf = new int[n];   // 1-based position on the walk, 0 if not visited
+        int[] walk = new int[n];
+        int node = 0;
+        while (inDegree[node] == 0) {
+            node++;
+        }
+        int steps = 0;
+        while (stepOf[node] == 0) {
+            walk[steps++] = node;
+            stepOf[node] = steps;
+            int predecessor = -1;
+            for (int e = incoming.edgeStart(node); e < incoming.edgeEnd(node) && predecessor == -1; e++) {
+                if (inDegree[incoming.target(e)] > 0) {
+                    predecessor = incoming.target(e);
+                }
+            }
+            node = predecessor;
+        }
+        // walk[stepOf[node] - 1 .. steps) follows edges backwards; reverse it into a forward cycle
+        int from = stepOf[node] - 1;
+        int[] cycle = new int[steps - from];
+        for (int i = 0; i < cycle.length; i++) {
+            cycle[i] = walk[steps - 1 - i];
+        }
+        return cycle;
+    }
+
+    /**
+     * Growable list of ints used by the parallel graph algorithms to collect nodes without boxing.
+     */
+    private static final class IntBag {
+        int[] items = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        void addAll(IntBag other) {
+            if (size + other.size > items.length) {
+                items = Arrays.copyOf(items, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.items, 0, items, size, other.size);
+            size += other.size;
+        }
+    }
+
+    /**
+     * Upper bound on the number of live delta-stepping buckets; delta is raised if the weight
+     * range would need more.
+     */
+    static final int MAX_DELTA_BUCKETS = 1 << 20;
+
+    /**
+     * Frontier nodes relaxed by one leaf task of delta-stepping.
+     */
+    private static final int RELAX_GRAIN = 256;
+
+    private static final VarHandle LONG_ARRAY = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * Parallel delta-stepping shortest paths (Meyer and Sanders) on the common ForkJoinPool,
+     * with delta chosen automatically as maxWeight / averageDegree (at least 1).
+     *
+     * @param graph The weighted graph (non-negative weights).
+     * @param startNode The source node.
+     * @return The same distances as shortestPathTree(graph, startNode).distances().
+     * @throws IllegalArgumentException if the graph is null, unweighted or has a negative weight,
+     *                                  or the start node is out of bounds.
+     */
+    public static long[] shortestPathDeltaStepping(CsrGraph graph, int startNode) {
+        validateWeightedGraph(graph);
+        return shortestPathDeltaStepping(graph, startNode, autoDelta(graph), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel delta-stepping shortest paths (Meyer and Sanders).
+     * Tentative distances are grouped into buckets of width delta and the buckets are settled in
+     * increasing order. Within a bucket, light edges (weight <= delta) are relaxed repeatedly in
+     * parallel until the bucket stops changing. The heavy edges of the settled nodes are then relaxed
+     * once, since they cannot lead back into the same bucket. Distances are lowered with a
+     * compare-and-set loop, so concurrent relaxations of the same node keep the minimum.
+     * A small delta approaches Dijkstra (little wasted work, little parallelism), a large one
+     * approaches Bellman-Ford (more parallelism, more re-relaxations).
+     *
+     * @param graph The weighted graph (non-negative weights).
+     * @param startNode The source node.
+     * @param delta The bucket width (at least 1).
+     * @param pool The pool that runs the relaxations.
+     * @return The same distances as shortestPathTree(graph, startNode).distances().
+     * @throws IllegalArgumentException if the graph is null, unweighted or has a negative weight,
+     *                                  the start node is out of bounds, delta is not positive or pool is null.
+     */
+    public static long[] shortestPathDeltaStepping(CsrGraph graph, int startNode, long delta, ForkJoinPool pool) {
+        validateWeightedGraph(graph);
+        validateNode(graph, startNode, "Start node");
+        if (delta < 1 || pool == null) {
+            throw new IllegalArgumentException("Delta must be positive and the pool non-null.");
+        }
+        long maxWeight = 0;
+        for (int w : graph.weights()) {
+            maxWeight = Math.max(maxWeight, w);
+        }
+        long width = Math.max(delta, (maxWeight + MAX_DELTA_BUCKETS - 3) / (MAX_DELTA_BUCKETS - 2));
+        int bucketCount = (int) (maxWeight / width + 2); // Pending distances never span more buckets
+
+        long[] dist = new long[graph.numNodes()];
+        Arrays.fill(dist, ShortestPathTree.UNREACHABLE);
+        dist[startNode] = 0;
+        long[] settledIn = new long[graph.numNodes()]; // Bucket in which a node was last added to the settled set
+        Arrays.fill(settledIn, -1);
+
+        IntBag[] buckets = new IntBag[bucketCount];
+        for (int b = 0; b < bucketCount; b++) {
+            buckets[b] = new IntBag();
+        }
+        buckets[0].add(startNode);
+        long current = 0;
+
+        while (true) {
+            // Drain the current bucket, dropping nodes that have since moved to an earlier bucket
+            IntBag slot = buckets[(int) (current % bucketCount)];
+            IntBag frontier = new IntBag();
+            for (int k = 0; k < slot.size; k++) {
+                int u = slot.items[k];
+                if (dist[u] / width == current) {
+                    frontier.add(u);
+                }
+            }
+            slot.size = 0;
+
+            // Light phase: relax until no node of this bucket improves any more
+            IntBag settled = new IntBag();
+            while (frontier.size > 0) {
+                for (int k = 0; k < frontier.size; k++) {
+                    int u = frontier.items[k];
+                    if (settledIn[u] != current) {
+                        settledIn[u] = current;
+                        settled.add(u);
+                    }
+                }
+                IntBag updated = pool.invoke(new RelaxTask(graph, dist, frontier.items, 0, frontier.size, width, true));
+                frontier = new IntBag();
+                for (int k = 0; k < updated.size; k++) {
+                    int v = updated.items[k];
+                    long bucket = dist[v] / width;
+                    (bucket == current ? frontier : buckets[(int) (bucket % bucketCount)]).add(v);
+                }
+            }
+
+            // Heavy phase: relax the remaining edges of the settled nodes once
+            IntBag updated = pool.invoke(new RelaxTask(graph, dist, settled.items, 0, settled.size, width, false));
+            for (int k = 0; k < updated.size; k++) {
+                int v = updated.items[k];
+                buckets[(int) (dist[v] / width % bucketCount)].add(v);
+            }
+
+            // Advance to the next non-empty bucket
+            int step = 1;
+            while (step <= bucketCount && buckets[(int) ((current + step) % bucketCount)].size == 0) {
+                step++;
+            }
+            if (step > bucketCount) {
+                return dist;
+            }
+            current += step;
+        }
+    }
+
+    /**
+     * Default delta for delta-stepping: the largest weight divided by the average out-degree,
+     * so that a node's light edges are roughly the ones that can land in its own bucket.
+     */
+    static long autoDelta(CsrGraph graph) {
+        long maxWeight = 0;
+        for (int w : graph.weights()) {
+            maxWeight = Math.max(maxWeight, w);
+        }
+        long averageDegree = Math.max(1, graph.numEdges() / Math.max(1, graph.numNodes()));
+        return Math.max(1, maxWeight / averageDegree);
+    }
+
+    /**
+     * Fork/join task relaxing the light (or heavy) edges of nodes[from .. to); returns the nodes
+     * whose distance it lowered.
+     */
+    private static final class RelaxTask extends RecursiveTask<IntBag> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CsrGraph graph;
+        private final long[] dist;
+        private final int[] nodes;
+        private final int from;
+        private final int to;
+        private final long delta;
+        private final boolean light;
+
+        RelaxTask(CsrGraph graph, long[] dist, int[] nodes, int from, int to, long delta, boolean light) {
+            this.graph = graph;
+            this.dist = dist;
+            this.nodes = nodes;
+            this.from = from;
+            this.to = to;
+            this.delta = delta;
+            this.light = light;
+        }
+
+        @Override
+        protected IntBag compute() {
+            if (to - from > RELAX_GRAIN) {
+                int mid = (from + to) >>> 1;
+                RelaxTask left = new RelaxTask(graph, dist, nodes, from, mid, delta, light);
+                left.fork();
+                IntBag right = new RelaxTask(graph, dist, nodes, mid, to, delta, light).compute();
+                IntBag result = left.join();
+                result.addAll(right);
+                return result;
+            }
+
+            int[] offsets = graph.offsets();
+            int[] targets = graph.targets();
+            int[] weights = graph.weights();
+            IntBag updated = new IntBag();
+            for (int i = from; i < to; i++) {
+                int u = nodes[i];
+                long du = (long) LONG_ARRAY.getVolatile(dist, u);
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int w = weights[e];
+                    if ((w <= delta) != light) {
+                        continue;
+                    }
+                    int v = targets[e];
+                    long candidate = du + w;
+                    long old = (long) LONG_ARRAY.getVolatile(dist, v);
+                    while (candidate < old) {
+                        if (LONG_ARRAY.compareAndSet(dist, v, old, candidate)) {
+                            updated.add(v);
+                            break;
+                        }
+                        old = (long) LONG_ARRAY.getVolatile(dist, v);
+                    }
+                }
+            }
+            return updated;
+        }
+    }
+
+    // --- Synthetic Graphs ---
+
+    /**
+     * Generates an undirected R-MAT graph (Chakrabarti et al.) with the Graph500 parameters
+     * a = 0.57, b = c = 0.19, d = 0.05: 2^scale nodes and about edgeFactor * 2^scale edges,
+     * each stored in both directions. R-MAT graphs have the skewed degree distribution and
+     * small diameter of social networks, which makes them a standard benchmark input for BFS.
+     * Self loops are dropped; duplicate edges are kept.
+     *
+     * @param scale The base-2 logarithm of the number of nodes (0 to 30).
+     * @param edgeFactor The average number of generated edges per node.
+     * @param seed The random seed, so benchmarks are repeatable.
+     * @return The generated graph.
+     * @throws IllegalArgumentException if scale or edgeFactor is out of range.
+     */
+    public static CsrGraph generateRmatGraph(int scale, int edgeFactor, long seed) {
+        if (scale < 0 || scale > 30 || edgeFactor < 0 || ((long) edgeFactor << scale) > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Invalid R-MAT scale or edge factor.");
+        }
+        int n = 1 << scale;
+        int m = edgeFactor << scale;
+        int[] sources = new int[2 * m];
+        int[] targets = new int[2 * m];
+        SplittableRandom random = new SplittableRandom(seed);
+        int edges = 0;
+        for (int e = 0; e < m; e++) {
+            int u = 0;
+            int v = 0;
+            for (int bit = 0; bit < scale; bit++) {
+                double r = random.nextDouble();
+                if (r >= 0.57) {
+                    if (r < 0.76) {
+                        v |= 1 << bit;        // b
+                    } else if (r < 0.95) {
+                        u |= 1 << bit;        // c
+                    } else {
+                        u |= 1 << bit;        // d
+                        v |= 1 << bit;
+                    }
+                }
+            }
+            if (u != v) {
+                sources[edges] = u;
+                targets[edges++] = v;
+                sources[edges] = v;
+                targets[edges++] = u;
+            }
+        }
+        return CsrGraph.fromEdges(n, Arrays.copyOf(sources, edges), Arrays.copyOf(targets, edges));
+    }
+}
@@ -0,0 +1,111 @@
+package org.utils;
+
+import java.util.Arrays;
+
+/**
+ * Indexed min-heap of node ids 0 .. capacity - 1 keyed by long priorities, used by the
+ * shortest path algorithms. Every node is in the heap at most once, and position[] tracks where,
+ * so a shorter tentative distance lowers the existing entry (decrease-key) instead of adding a
+ * stale duplicate. A 4-ary layout halves the tree height compared with a binary heap; the
+ * cheaper sift-ups suit Dijkstra, which performs many more decrease-keys than polls.
+ */
+final class IndexedDaryHeap {
+
+    private static final int ARITY = 4;
+
+    private final int[] heap;      // Node ids in heap order
+    private final int[] position;  // position[node] = index in heap, or -1 if absent
+    private final long[] keys;     // keys[node] = current priority of node
+    private int size;
+
+    /**
+     * Creates an empty heap for node ids 0 .. capacity - 1.
+     *
+     * @param capacity The number of distinct node ids.
+     */
+    IndexedDaryHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Inserts a node, or lowers its key if it is already present with a larger key.
+     *
+     * @param node The node id.
+     * @param key The new priority.
+     */
+    void insertOrDecrease(int node, long key) {
+        int index = position[node];
+        if (index < 0) {
+            index = size++;
+        } else if (key >= keys[node]) {
+            return;
+        }
+        keys[node] = key;
+        siftUp(node, index);
+    }
+
+    /**
+     * Removes and returns the node with the smallest key.
+     *
+     * @return The node id.
+     */
+    int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(last, 0);
+        }
+        return top;
+    }
+
+    private void siftUp(int node, int index) {
+        long key = keys[node];
+        while (index > 0) {
+            int parent = (index - 1) / ARITY;
+            int parentNode = heap[parent];
+            if (keys[parentNode] <= key) {
+                break;
+            }
+            heap[index] = parentNode;
+            position[parentNode] = index;
+            index = parent;
+        }
+        heap[index] = node;
+        position[node] = index;
+    }
+
+    private void siftDown(int node, int index) {
+        long key = keys[node];
+        while (true) {
+            int first = index * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int best = first;
+            long bestKey = keys[heap[first]];
+            for (int child = first + 1, end = Math.min(first + ARITY, size); child < end; child++) {
+                long childKey = keys[heap[child]];
+                if (childKey < bestKey) {
+                    best = child;
+                    bestKey = childKey;
+                }
+            }
+            if (bestKey >= key) {
+                break;
+            }
+            heap[index] = heap[best];
+            position[heap[index]] = index;
+            index = best;
+        }
+        heap[index] = node;
+        position[node] = index;
+    }
+}
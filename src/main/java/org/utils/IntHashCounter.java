@@ -0,0 +1,118 @@
+package org.utils;
+
+/**
+ * Open-addressing hash table from int keys to int counts, used by the array algorithms
+ * that need a multiset of primitives without boxing every element into an Integer.
+ * Uses linear probing over a power-of-two table that is kept at most half full.
+ */
+final class IntHashCounter {
+
+    private int[] keys;
+    private int[] counts;   // counts[slot] == 0 marks an empty slot
+    private int size;
+
+    /**
+     * Creates a counter sized for the expected number of distinct keys.
+     *
+     * @param expectedKeys The expected number of distinct keys.
+     */
+    IntHashCounter(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedKeys) * 2 - 1) << 1;
+        keys = new int[capacity];
+        counts = new int[capacity];
+    }
+
+    /**
+     * Increments the count of the given key by one.
+     *
+     * @param key The key to add.
+     */
+    void add(int key) {
+        int slot = slotOf(key);
+        if (counts[slot] == 0) {
+            keys[slot] = key;
+            size++;
+            if (size * 2 > keys.length) {
+                counts[slot] = 1;
+                grow();
+                return;
+            }
+        }
+        counts[slot]++;
+    }
+
+    /**
+     * Returns the count of the given key, or 0 if it was never added.
+     *
+     * @param key The key to look up.
+     * @return The number of times the key was added.
+     */
+    int count(int key) {
+        return counts[slotOf(key)];
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots; slots with a zero count are empty.
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the key stored in a slot (only meaningful when countAt(slot) > 0).
+     */
+    int keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Returns the count stored in a slot, 0 for empty slots.
+     */
+    int countAt(int slot) {
+        return counts[slot];
+    }
+
+    /**
+     * Finds the slot holding the key, or the empty slot where it would be inserted.
+     */
+    private int slotOf(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (counts[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the table and re-inserts every occupied slot.
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new int[oldKeys.length * 2];
+        counts = new int[oldCounts.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    /**
+     * Scrambles the key bits so that sequential keys do not form long probe runs.
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,191 @@
+package org.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fixed-length vector of ints stored off the Java heap and addressed with long indices,
+ * so it can hold more than 2^31 elements and multi-GB data without adding to GC pauses.
+ * Storage is split into chunks of 2^28 ints (1 GB), each backed by a native-order direct buffer
+ * or by a memory-mapped region of a file. IntVectorUtils provides the core ArrayUtils functions
+ * that work on an IntVector directly.
+ * Instances are not thread-safe for concurrent writes.
+ */
+public final class IntVector implements AutoCloseable {
+
+    static final int CHUNK_SHIFT = 28;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final long length;
+    private IntBuffer[] chunks;
+
+    private IntVector(long length, IntBuffer[] chunks) {
+        this.length = length;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Allocates a zero-filled off-heap vector.
+     *
+     * @param length The number of elements.
+     * @return The new vector.
+     * @throws IllegalArgumentException if the length is negative.
+     */
+    public static IntVector allocate(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Vector length cannot be negative.");
+        }
+        IntBuffer[] chunks = new IntBuffer[chunkCount(length)];
+        for (int c = 0; c < chunks.length; c++) {
+            int size = chunkLength(length, c);
+            chunks[c] = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+        return new IntVector(length, chunks);
+    }
+
+    /**
+     * Maps a file as a vector of the given length; the file is created or extended as needed
+     * and writes go straight to the file. The mapping stays valid after the channel is closed.
+     *
+     * @param file The backing file.
+     * @param length The number of elements.
+     * @return The mapped vector.
+     * @throws IllegalArgumentException if the length is negative.
+     * @throws UncheckedIOException if the file cannot be mapped.
+     */
+    public static IntVector map(Path file, long length) {
+        if (file == null || length < 0) {
+            throw new IllegalArgumentException("Invalid file or length for mapped vector.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            IntBuffer[] chunks = new IntBuffer[chunkCount(length)];
+            for (int c = 0; c < chunks.length; c++) {
+                long position = ((long) c << CHUNK_SHIFT) * Integer.BYTES;
+                long size = (long) chunkLength(length, c) * Integer.BYTES;
+                chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, position, size)
+                        .order(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+            return new IntVector(length, chunks);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map vector file: " + file, e);
+        }
+    }
+
+    /**
+     * Copies an int array into a new off-heap vector.
+     *
+     * @param values The values to copy.
+     * @return The new vector.
+     */
+    public static IntVector of(int... values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null.");
+        }
+        IntVector vector = allocate(values.length);
+        for (int c = 0; c < vector.chunks.length; c++) {
+            vector.chunks[c].duplicate().put(values, c << CHUNK_SHIFT, chunkLength(values.length, c));
+        }
+        return vector;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return The vector length.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index The element index.
+     * @return The element value.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public int get(long index) {
+        checkIndex(index);
+        return chunks()[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+    }
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index The element index.
+     * @param value The new value.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void set(long index, int value) {
+        checkIndex(index);
+        chunks()[(int) (index >>> CHUNK_SHIFT)].put((int) (index & CHUNK_MASK), value);
+    }
+
+    /**
+     * Swaps two elements.
+     *
+     * @param i The index of the first element.
+     * @param j The index of the second element.
+     */
+    public void swap(long i, long j) {
+        int temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+
+    /**
+     * Copies the elements into a new heap array.
+     *
+     * @return The elements as an int array.
+     * @throws IllegalStateException if the vector is too large for a Java array.
+     */
+    public int[] toArray() {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Vector is too large to copy into an int array.");
+        }
+        int[] result = new int[(int) length];
+        for (int c = 0; c < chunks().length; c++) {
+            chunks[c].duplicate().get(result, c << CHUNK_SHIFT, chunkLength(length, c));
+        }
+        return result;
+    }
+
+    /**
+     * Releases the vector. Direct and mapped memory is returned once the buffers become
+     * unreachable; any later access throws IllegalStateException.
+     */
+    @Override
+    public void close() {
+        chunks = null;
+    }
+
+    private IntBuffer[] chunks() {
+        IntBuffer[] current = chunks;
+        if (current == null) {
+            throw new IllegalStateException("Vector has been closed.");
+        }
+        return current;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+
+    private static int chunkCount(long length) {
+        return (int) ((length + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+    }
+
+    private static int chunkLength(long length, int chunk) {
+        return (int) Math.min(CHUNK_SIZE, length - ((long) chunk << CHUNK_SHIFT));
+    }
+}
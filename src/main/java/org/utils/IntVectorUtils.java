@@ -0,0 +1,216 @@
+package org.utils;
+
+/**
+ * Utility class containing the core ArrayUtils functions for off-heap IntVector data.
+ * Every function mirrors its int[] counterpart in ArrayUtils, but uses long indices so it
+ * works on vectors with more than 2^31 elements.
+ */
+public final class IntVectorUtils {
+
+    // Private constructor to prevent instantiation
+    private IntVectorUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Finds the minimum element of an off-heap vector.
+     *
+     * @param vec The input vector.
+     * @return The minimum element.
+     * @throws IllegalArgumentException if the vector is null or empty.
+     */
+    public static int min(IntVector vec) {
+        if (vec == null || vec.length() == 0) {
+            throw new IllegalArgumentException("Vector cannot be null or empty for min operation.");
+        }
+
+        int minValue = vec.get(0);
+        for (long i = 1; i < vec.length(); i++) {
+            int value = vec.get(i);
+            if (value < minValue) {
+                minValue = value;
+            }
+        }
+        return minValue;
+    }
+
+    /**
+     * Finds the maximum element of an off-heap vector.
+     *
+     * @param vec The input vector.
+     * @return The maximum element.
+     * @throws IllegalArgumentException if the vector is null or empty.
+     */
+    public static int max(IntVector vec) {
+        if (vec == null || vec.length() == 0) {
+            throw new IllegalArgumentException("Vector cannot be null or empty for max operation.");
+        }
+
+        int maxValue = vec.get(0);
+        for (long i = 1; i < vec.length(); i++) {
+            int value = vec.get(i);
+            if (value > maxValue) {
+                maxValue = value;
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Checks if an off-heap vector is sorted in ascending order.
+     *
+     * @param vec The input vector.
+     * @return true if the vector is sorted (null, empty and single-element vectors are), false otherwise.
+     */
+    public static boolean isSorted(IntVector vec) {
+        if (vec == null || vec.length() <= 1) {
+            return true;
+        }
+
+        int previous = vec.get(0);
+        for (long i = 1; i < vec.length(); i++) {
+            int value = vec.get(i);
+            if (previous > value) {
+                return false;
+            }
+            previous = value;
+        }
+        return true;
+    }
+
+    /**
+     * Sorts an off-heap vector in ascending order with an LSD radix sort (4 passes of 8 bits).
+     * Runs in O(N) time and is stable; the scratch space is an off-heap vector of the same length,
+     * so nothing proportional to N is allocated on the heap.
+     *
+     * @param vec The vector to sort in place.
+     */
+    public static void radixSort(IntVector vec) {
+        if (vec == null || vec.length() <= 1) {
+            return;
+        }
+
+        long n = vec.length();
+        try (IntVector scratch = IntVector.allocate(n)) {
+            IntVector from = vec;
+            IntVector to = scratch;
+            for (int shift = 0; shift < 32; shift += 8) {
+                // Flipping the sign bit makes negative numbers order before positive ones
+                int flip = (shift == 24) ? 0x80 : 0;
+                long[] offsets = new long[257];
+                for (long i = 0; i < n; i++) {
+                    offsets[((from.get(i) >>> shift) & 0xFF ^ flip) + 1]++;
+                }
+                for (int d = 0; d < 256; d++) {
+                    offsets[d + 1] += offsets[d];
+                }
+                for (long i = 0; i < n; i++) {
+                    int value = from.get(i);
+                    to.set(offsets[(value >>> shift) & 0xFF ^ flip]++, value);
+                }
+                IntVector temp = from;
+                from = to;
+                to = temp;
+            }
+            // After an even number of passes the sorted data is back in vec
+        }
+    }
+
+    /**
+     * Finds the index of the first occurrence of a target value in a sorted off-heap vector.
+     *
+     * @param vec The sorted input vector.
+     * @param target The value to search for.
+     * @return The index of the first target occurrence, or -1.
+     */
+    public static long binarySearchFirstOccurrence(IntVector vec, int target) {
+        if (vec == null) {
+            return -1;
+        }
+
+        long low = 0;
+        long high = vec.length() - 1;
+        long result = -1;
+
+        while (low <= high) {
+            long mid = low + (high - low) / 2;
+            int value = vec.get(mid);
+
+            if (value == target) {
+                result = mid;
+                high = mid - 1;
+            } else if (value < target) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rotates an off-heap vector to the right by k steps in place (three-reverse approach).
+     *
+     * @param vec The vector to rotate.
+     * @param k The number of steps to rotate to the right.
+     */
+    public static void rotate(IntVector vec, long k) {
+        if (vec == null || vec.length() == 0 || k < 0) {
+            return;
+        }
+
+        long n = vec.length();
+        k = k % n;
+        if (k == 0) return;
+
+        reverse(vec, 0, n - 1);
+        reverse(vec, 0, k - 1);
+        reverse(vec, k, n - 1);
+    }
+
+    /**
+     * Reverses vec[start .. end] (inclusive) in place.
+     */
+    private static void reverse(IntVector vec, long start, long end) {
+        while (start < end) {
+            vec.swap(start, end);
+            start++;
+            end--;
+        }
+    }
+
+    /**
+     * Finds the majority element (more than floor(n / 2) occurrences) of an off-heap vector
+     * with the Boyer-Moore vote followed by a verification pass.
+     *
+     * @param vec The input vector.
+     * @return The majority element, or Integer.MIN_VALUE if none exists.
+     */
+    public static int majorityElement(IntVector vec) {
+        if (vec == null || vec.length() == 0) {
+            return Integer.MIN_VALUE;
+        }
+
+        int candidate = 0;
+        long count = 0;
+        for (long i = 0; i < vec.length(); i++) {
+            int value = vec.get(i);
+            if (count == 0) {
+                candidate = value;
+                count = 1;
+            } else if (value == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+
+        count = 0;
+        for (long i = 0; i < vec.length(); i++) {
+            if (vec.get(i) == candidate) {
+                count++;
+            }
+        }
+        return count > vec.length() / 2 ? candidate : Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,233 @@
+package org.utils;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Misra-Gries frequent-items summary for finding the k-heavy hitters of an int stream,
+ * i.e. every item that occurs more than n / k times among the n items seen so far.
+ * The summary keeps at most k - 1 counters (O(k) memory), can be fed incrementally one item
+ * or one chunk at a time, and two summaries built on separate threads can be merged.
+ * Candidates are a superset of the true heavy hitters; use verify() with a second pass
+ * over the data to drop the false positives.
+ * Instances are not thread-safe: give every thread its own summary and merge them.
+ */
+public final class MisraGriesSummary {
+
+    private final int k;
+    private final int[] items;
+    private final long[] counts;
+    private int size;       // Number of live counters
+    private long total;     // Number of items offered (including merged summaries)
+
+    /**
+     * Creates an empty summary for k-heavy hitters.
+     *
+     * @param k The heavy hitter threshold: items occurring more than n / k times are reported.
+     * @throws IllegalArgumentException if k is smaller than 2.
+     */
+    public MisraGriesSummary(int k) {
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2 for heavy hitters.");
+        }
+        this.k = k;
+        this.items = new int[k - 1];
+        this.counts = new long[k - 1];
+    }
+
+    /**
+     * Builds a summary from a stream. Parallel streams are supported: every worker fills
+     * its own summary and the partial summaries are merged.
+     *
+     * @param stream The input stream.
+     * @param k The heavy hitter threshold.
+     * @return The summary of the stream.
+     */
+    public static MisraGriesSummary of(IntStream stream, int k) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Stream cannot be null.");
+        }
+        return stream.collect(() -> new MisraGriesSummary(k), MisraGriesSummary::offer, MisraGriesSummary::merge);
+    }
+
+    /**
+     * Adds one item to the summary (O(k) worst case).
+     *
+     * @param item The item to add.
+     */
+    public void offer(int item) {
+        total++;
+        for (int i = 0; i < size; i++) {
+            if (items[i] == item) {
+                counts[i]++;
+                return;
+            }
+        }
+        if (size < items.length) {
+            items[size] = item;
+            counts[size] = 1;
+            size++;
+            return;
+        }
+        // No free counter: decrement all counters (the new item is cancelled out as well)
+        decrementAll(1);
+    }
+
+    /**
+     * Adds every element of arr[from .. to) to the summary.
+     *
+     * @param arr The input chunk.
+     * @param from The starting index (inclusive).
+     * @param to The ending index (exclusive).
+     */
+    public void offerAll(int[] arr, int from, int to) {
+        if (arr == null || from < 0 || to > arr.length || from > to) {
+            throw new IllegalArgumentException("Invalid chunk for heavy hitter summary.");
+        }
+        for (int i = from; i < to; i++) {
+            offer(arr[i]);
+        }
+    }
+
+    /**
+     * Adds every element of the chunk to the summary.
+     *
+     * @param chunk The input chunk.
+     */
+    public void offerAll(int[] chunk) {
+        offerAll(chunk, 0, chunk == null ? 0 : chunk.length);
+    }
+
+    /**
+     * Merges another summary into this one (Agarwal et al.): counters are added and,
+     * when more than k - 1 remain, the k-th largest count is subtracted from all of them.
+     * The error bound of the result is the same as for a summary built over both inputs.
+     *
+     * @param other The summary to merge; it is not modified.
+     * @return This summary.
+     * @throws IllegalArgumentException if the summaries use a different k.
+     */
+    public MisraGriesSummary merge(MisraGriesSummary other) {
+        if (other == null || other.k != k) {
+            throw new IllegalArgumentException("Only summaries with the same k can be merged.");
+        }
+        int[] mergedItems = Arrays.copyOf(items, size + other.size);
+        long[] mergedCounts = Arrays.copyOf(counts, size + other.size);
+        int mergedSize = size;
+
+        for (int j = 0; j < other.size; j++) {
+            int i = 0;
+            while (i < mergedSize && mergedItems[i] != other.items[j]) {
+                i++;
+            }
+            if (i == mergedSize) {
+                mergedItems[i] = other.items[j];
+                mergedSize++;
+            }
+            mergedCounts[i] += other.counts[j];
+        }
+
+        long cut = 0;
+        if (mergedSize > items.length) {
+            long[] sortedCounts = Arrays.copyOf(mergedCounts, mergedSize);
+            Arrays.sort(sortedCounts);
+            cut = sortedCounts[mergedSize - k]; // k-th largest count
+        }
+
+        size = 0;
+        for (int i = 0; i < mergedSize; i++) {
+            if (mergedCounts[i] > cut) {
+                items[size] = mergedItems[i];
+                counts[size] = mergedCounts[i] - cut;
+                size++;
+            }
+        }
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * Returns the candidate heavy hitters. Every item occurring more than n / k times is included.
+     *
+     * @return The candidate items (at most k - 1).
+     */
+    public int[] candidates() {
+        return Arrays.copyOf(items, size);
+    }
+
+    /**
+     * Returns a lower bound for the frequency of an item; the true frequency is at most
+     * estimate(item) + total() / k.
+     *
+     * @param item The item to look up.
+     * @return The counter value of the item, or 0 if it is not tracked.
+     */
+    public long estimate(int item) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == item) {
+                return counts[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of items offered to this summary.
+     *
+     * @return The total item count n.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Verification pass: counts the candidates exactly over a second pass of the same data
+     * and returns only the true heavy hitters (frequency > n / k). Uses O(k) memory.
+     *
+     * @param secondPass A stream replaying the same items that built the summary.
+     * @return The verified heavy hitters.
+     */
+    public int[] verify(IntStream secondPass) {
+        if (secondPass == null) {
+            throw new IllegalArgumentException("Stream cannot be null.");
+        }
+        int[] candidates = candidates();
+        long[] exact = secondPass.collect(() -> new long[candidates.length],
+                (acc, item) -> {
+                    for (int i = 0; i < candidates.length; i++) {
+                        if (candidates[i] == item) {
+                            acc[i]++;
+                            return;
+                        }
+                    }
+                },
+                (a, b) -> {
+                    for (int i = 0; i < a.length; i++) {
+                        a[i] += b[i];
+                    }
+                });
+
+        int verified = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            if (exact[i] * k > total) {
+                candidates[verified++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(candidates, verified);
+    }
+
+    /**
+     * Subtracts the given amount from every counter and drops counters that reach zero.
+     */
+    private void decrementAll(long amount) {
+        int live = 0;
+        for (int i = 0; i < size; i++) {
+            if (counts[i] > amount) {
+                items[live] = items[i];
+                counts[live] = counts[i] - amount;
+                live++;
+            }
+        }
+        size = live;
+    }
+}
@@ -0,0 +1,239 @@
+package org.utils;
+
+import java.util.Arrays;
+
+/**
+ * Topological order of a DAG that is maintained while edges are inserted, with the dynamic
+ * algorithm of Pearce and Kelly. Inserting u -> v costs nothing if u already comes before v.
+ * Otherwise only the affected region between the two positions is searched: the nodes reachable
+ * from v and the nodes that reach u, restricted to that region, are reordered among the positions
+ * they already occupy. This is far cheaper than rerunning GraphUtils.topologicalSortKahn after every
+ * insert. An edge that would close a cycle is detected by the same search and rejected.
+ * Instances are not thread-safe.
+ */
+public final class OnlineTopologicalOrder {
+
+    private final int[] position;   // position[node] = index of the node in the order
+    private final int[] nodeAt;     // nodeAt[index] = node at that index
+    private final int[][] out;
+    private final int[][] in;
+    private final int[] outSize;
+    private final int[] inSize;
+    private final int[] mark;       // mark[node] == epoch if visited by the current search
+    private int epoch;
+    private long edges;
+
+    // Search buffers, reused across inserts
+    private int[] stack = new int[16];
+    private int[] forward = new int[16];
+    private int[] backward = new int[16];
+
+    /**
+     * Creates a graph with the given number of nodes and no edges; the initial order is 0 .. numNodes - 1.
+     *
+     * @param numNodes Total number of nodes (0-indexed).
+     * @throws IllegalArgumentException if numNodes is negative.
+     */
+    public OnlineTopologicalOrder(int numNodes) {
+        if (numNodes < 0) {
+            throw new IllegalArgumentException("Number of nodes cannot be negative.");
+        }
+        position = new int[numNodes];
+        nodeAt = new int[numNodes];
+        for (int i = 0; i < numNodes; i++) {
+            position[i] = i;
+            nodeAt[i] = i;
+        }
+        out = new int[numNodes][];
+        in = new int[numNodes][];
+        outSize = new int[numNodes];
+        inSize = new int[numNodes];
+        mark = new int[numNodes];
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return The node count.
+     */
+    public int numNodes() {
+        return position.length;
+    }
+
+    /**
+     * Returns the number of accepted edges.
+     *
+     * @return The edge count.
+     */
+    public long numEdges() {
+        return edges;
+    }
+
+    /**
+     * Returns the position of a node in the current order.
+     *
+     * @param node The node index.
+     * @return The position; u comes before v for every edge u -> v.
+     */
+    public int position(int node) {
+        return position[node];
+    }
+
+    /**
+     * Returns a copy of the current topological order.
+     *
+     * @return The nodes in topological order.
+     */
+    public int[] order() {
+        return nodeAt.clone();
+    }
+
+    /**
+     * Inserts the edge u -> v unless it would create a cycle.
+     *
+     * @param u The source node.
+     * @param v The target node.
+     * @return true if the edge was added, false if it was rejected because v reaches u (or u == v).
+     * @throws IllegalArgumentException if a node is out of bounds.
+     */
+    public boolean addEdge(int u, int v) {
+        checkNode(u);
+        checkNode(v);
+        if (u == v) {
+            return false;
+        }
+        int lower = position[v];
+        int upper = position[u];
+        if (lower < upper) {
+            // Discover the affected region; a path v ~> u means the edge closes a cycle
+            int forwardSize = search(v, upper, true, u);
+            if (forwardSize < 0) {
+                return false;
+            }
+            int backwardSize = search(u, lower, false, -1);
+            reorder(forwardSize, backwardSize);
+        }
+        out[u] = append(out[u], outSize[u]++, v);
+        in[v] = append(in[v], inSize[v]++, u);
+        edges++;
+        return true;
+    }
+
+    /**
+     * Inserts a batch of edges sources[i] -> targets[i] in order; every edge is checked against the
+     * graph including the edges accepted before it.
+     *
+     * @param sources The source node of every edge.
+     * @param targets The target node of every edge.
+     * @return An array where added[i] is true if edge i was added and false if it would have closed a cycle.
+     * @throws IllegalArgumentException if the arrays are null, differ in length, or contain an
+     *                                  out-of-bounds node; no edge is inserted in that case.
+     */
+    public boolean[] addEdges(int[] sources, int[] targets) {
+        if (sources == null || targets == null || sources.length != targets.length) {
+            throw new IllegalArgumentException("Sources and targets must be non-null arrays of equal length.");
+        }
+        for (int i = 0; i < sources.length; i++) {
+            checkNode(sources[i]);
+            checkNode(targets[i]);
+        }
+        boolean[] added = new boolean[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            added[i] = addEdge(sources[i], targets[i]);
+        }
+        return added;
+    }
+
+    /**
+     * Iterative DFS from start into the affected region, along outgoing edges to nodes positioned
+     * before bound (forward) or along incoming edges to nodes positioned after bound (backward).
+     * The visited nodes are collected in the forward or backward buffer.
+     *
+     * @return The number of visited nodes, or -1 if the forward search reached the node stop.
+     */
+    private int search(int start, int bound, boolean isForward, int stop) {
+        if (++epoch == 0) {
+            Arrays.fill(mark, 0);
+            epoch = 1;
+        }
+        int[] visited = isForward ? forward : backward;
+        int found = 0;
+        int top = 0;
+        mark[start] = epoch;
+        stack[top++] = start;
+        while (top > 0) {
+            int x = stack[--top];
+            visited = append(visited, found++, x);
+            int[] neighbors = isForward ? out[x] : in[x];
+            int degree = isForward ? outSize[x] : inSize[x];
+            for (int i = 0; i < degree; i++) {
+                int y = neighbors[i];
+                if (y == stop) {
+                    forward = visited;
+                    return -1;
+                }
+                int p = position[y];
+                boolean inRegion = isForward ? p < bound : p > bound;
+                if (inRegion && mark[y] != epoch) {
+                    mark[y] = epoch;
+                    stack = append(stack, top++, y);
+                }
+            }
+        }
+        if (isForward) {
+            forward = visited;
+        } else {
+            backward = visited;
+        }
+        return found;
+    }
+
+    /**
+     * Moves the backward set (nodes reaching u) before the forward set (nodes reachable from v),
+     * reusing the positions both sets occupy and keeping the relative order within each set.
+     */
+    private void reorder(int forwardSize, int backwardSize) {
+        sortByPosition(backward, backwardSize);
+        sortByPosition(forward, forwardSize);
+        int[] slots = new int[backwardSize + forwardSize];
+        for (int i = 0; i < backwardSize; i++) {
+            slots[i] = position[backward[i]];
+        }
+        for (int i = 0; i < forwardSize; i++) {
+            slots[backwardSize + i] = position[forward[i]];
+        }
+        Arrays.sort(slots);
+        for (int i = 0; i < slots.length; i++) {
+            int node = i < backwardSize ? backward[i] : forward[i - backwardSize];
+            position[node] = slots[i];
+            nodeAt[slots[i]] = node;
+        }
+    }
+
+    private void sortByPosition(int[] nodes, int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) position[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < size; i++) {
+            nodes[i] = (int) keys[i];
+        }
+    }
+
+    private static int[] append(int[] list, int index, int value) {
+        if (list == null) {
+            list = new int[4];
+        } else if (index == list.length) {
+            list = Arrays.copyOf(list, index * 2);
+        }
+        list[index] = value;
+        return list;
+    }
+
+    private void checkNode(int node) {
+        if (node < 0 || node >= position.length) {
+            throw new IllegalArgumentException("Node " + node + " out of bounds for " + position.length + " nodes.");
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cursor that walks the permutations of an int array in lexicographic order, in place.
+ * Stepping uses ArrayUtils.nextPermutation on one internal array, so enumeration allocates nothing.
+ * Permutations are numbered by rank (0 = ascending order); seek() jumps straight to any rank by
+ * unranking in the factorial number system (generalised to repeated values), and split() divides
+ * the rank range into independent cursors for parallel enumeration.
+ * Duplicate values are supported: every distinct arrangement is visited exactly once.
+ * Ranks are longs, so arrays are limited to 20 elements (20! < 2^63).
+ * Instances are not thread-safe; give every thread its own cursor (see split()).
+ */
+public final class PermutationCursor {
+
+    /**
+     * Largest supported array length, since 20! is the largest factorial that fits in a long.
+     */
+    public static final int MAX_LENGTH = 20;
+
+    private final int[] sortedValues;   // Rank 0 arrangement
+    private final int[] current;
+    private final long total;           // Number of distinct permutations
+    private final long endRank;         // Exclusive upper bound of this cursor's range
+    private long rank;
+
+    /**
+     * Creates a cursor over all distinct permutations of the given values, positioned at rank 0.
+     *
+     * @param values The values to permute (copied).
+     * @throws IllegalArgumentException if values is null or longer than MAX_LENGTH.
+     */
+    public PermutationCursor(int[] values) {
+        if (values == null || values.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Values must be non-null with at most " + MAX_LENGTH + " elements.");
+        }
+        this.sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        this.current = sortedValues.clone();
+        this.total = countPermutations(sortedValues);
+        this.endRank = total;
+    }
+
+    private PermutationCursor(PermutationCursor source, long startRank, long endRank) {
+        this.sortedValues = source.sortedValues;
+        this.current = new int[sortedValues.length];
+        this.total = source.total;
+        this.endRank = endRank;
+        seek(startRank);
+    }
+
+    /**
+     * Returns the current permutation. The returned array is the cursor's internal buffer:
+     * it changes on every step and must not be modified by the caller.
+     *
+     * @return The current permutation.
+     */
+    public int[] current() {
+        return current;
+    }
+
+    /**
+     * Returns the rank of the current permutation.
+     *
+     * @return The current rank.
+     */
+    public long rank() {
+        return rank;
+    }
+
+    /**
+     * Returns the total number of distinct permutations of the values.
+     *
+     * @return The permutation count.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Returns the exclusive end of the rank range covered by this cursor.
+     *
+     * @return The end rank.
+     */
+    public long endRank() {
+        return endRank;
+    }
+
+    /**
+     * Advances to the next permutation in lexicographic order.
+     *
+     * @return true if the cursor moved, false if the current permutation is the last in its range.
+     */
+    public boolean next() {
+        if (rank + 1 >= endRank) {
+            return false;
+        }
+        ArrayUtils.nextPermutation(current);
+        rank++;
+        return true;
+    }
+
+    /**
+     * Moves the cursor to the permutation with the given rank in O(n * d) time,
+     * where d is the number of distinct values.
+     *
+     * @param target The rank to jump to, 0 <= target < total().
+     * @throws IllegalArgumentException if the rank is out of range.
+     */
+    public void seek(long target) {
+        if (target < 0 || target >= total) {
+            throw new IllegalArgumentException("Rank out of range: " + target);
+        }
+
+        // Remaining multiset as (distinct value, count) pairs in ascending order
+        int[] distinct = new int[sortedValues.length];
+        int[] counts = new int[sortedValues.length];
+        int d = 0;
+        for (int i = 0; i < sortedValues.length; i++) {
+            if (d == 0 || distinct[d - 1] != sortedValues[i]) {
+                distinct[d++] = sortedValues[i];
+            }
+            counts[d - 1]++;
+        }
+
+        long remainingRank = target;
+        long block = total; // Permutations of the remaining multiset
+        for (int pos = 0, remaining = sortedValues.length; pos < sortedValues.length; pos++, remaining--) {
+            for (int v = 0; v < d; v++) {
+                if (counts[v] == 0) {
+                    continue;
+                }
+                // Permutations that start with distinct[v]: block * counts[v] / remaining
+                long withValue = block / remaining * counts[v] + block % remaining * counts[v] / remaining;
+                if (remainingRank < withValue) {
+                    current[pos] = distinct[v];
+                    counts[v]--;
+                    block = withValue;
+                    break;
+                }
+                remainingRank -= withValue;
+            }
+        }
+        rank = target;
+    }
+
+    /**
+     * Splits the remaining range of this cursor (from the current rank to endRank()) into
+     * up to the given number of contiguous, non-overlapping cursors of nearly equal size.
+     * This cursor itself is left unchanged.
+     *
+     * @param parts The desired number of parts.
+     * @return The cursors, in rank order, each positioned at the start of its range.
+     * @throws IllegalArgumentException if parts is not positive.
+     */
+    public List<PermutationCursor> split(int parts) {
+        if (parts <= 0) {
+            throw new IllegalArgumentException("Number of parts must be positive.");
+        }
+        long size = endRank - rank;
+        int count = (int) Math.min(parts, size);
+        List<PermutationCursor> cursors = new ArrayList<>(count);
+        for (int p = 0; p < count; p++) {
+            // floor(size * p / count), split up so the product cannot overflow for sizes near 20!
+            long from = rank + size / count * p + size % count * p / count;
+            long to = rank + size / count * (p + 1) + size % count * (p + 1) / count;
+            cursors.add(new PermutationCursor(this, from, to));
+        }
+        return cursors;
+    }
+
+    /**
+     * Counts distinct permutations of a sorted multiset: n! / (c1! * c2! * ...).
+     * Computed incrementally as a product of binomial coefficients to stay within a long.
+     */
+    private static long countPermutations(int[] sorted) {
+        long result = 1;
+        int placed = 0;
+        int run = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            run = (i > 0 && sorted[i] == sorted[i - 1]) ? run + 1 : 1;
+            placed++;
+            // Multiply by C(placed, run) / C(placed - 1, run - 1) = placed / run
+            result = result / run * placed + result % run * placed / run;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package org.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Pivot selection strategies for the partitioning functions in ArrayUtils.
+ * Every strategy returns the index of the chosen pivot inside arr[low .. high] (inclusive)
+ * and never modifies the array.
+ */
+public enum PivotStrategy {
+
+    /**
+     * The last element of the range, as in the classic Lomuto partition.
+     */
+    LAST {
+        @Override
+        public int choose(int[] arr, int low, int high) {
+            return high;
+        }
+    },
+
+    /**
+     * The median of the first, middle and last elements.
+     */
+    MEDIAN_OF_3 {
+        @Override
+        public int choose(int[] arr, int low, int high) {
+            return medianIndex(arr, low, low + (high - low) / 2, high);
+        }
+    },
+
+    /**
+     * Tukey's ninther: the median of three medians-of-3 taken from nine evenly spaced samples.
+     * Falls back to median-of-3 for ranges shorter than nine elements.
+     */
+    NINTHER {
+        @Override
+        public int choose(int[] arr, int low, int high) {
+            int length = high - low + 1;
+            if (length < 9) {
+                return MEDIAN_OF_3.choose(arr, low, high);
+            }
+            int step = length / 8;
+            int mid = low + (high - low) / 2;
+            int first = medianIndex(arr, low, low + step, low + 2 * step);
+            int second = medianIndex(arr, mid - step, mid, mid + step);
+            int third = medianIndex(arr, high - 2 * step, high - step, high);
+            return medianIndex(arr, first, second, third);
+        }
+    },
+
+    /**
+     * A uniformly random element of the range.
+     */
+    RANDOM {
+        @Override
+        public int choose(int[] arr, int low, int high) {
+            return low + ThreadLocalRandom.current().nextInt(high - low + 1);
+        }
+    };
+
+    /**
+     * Chooses the pivot for arr[low .. high].
+     *
+     * @param arr The array being partitioned.
+     * @param low The starting index of the range (inclusive).
+     * @param high The ending index of the range (inclusive).
+     * @return The index of the pivot element.
+     */
+    public abstract int choose(int[] arr, int low, int high);
+
+    /**
+     * Returns whichever of the three indices holds the median value.
+     */
+    private static int medianIndex(int[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            if (arr[b] < arr[c]) {
+                return b;
+            }
+            return arr[a] < arr[c] ? c : a;
+        }
+        if (arr[a] < arr[c]) {
+            return a;
+        }
+        return arr[b] < arr[c] ? c : b;
+    }
+}
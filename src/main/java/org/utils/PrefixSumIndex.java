@@ -0,0 +1,164 @@
+package org.utils;
+
+import java.util.Arrays;
+
+/**
+ * Immutable prefix-sum index over an integer array.
+ * The index is built once (O(N log N)) and then answers any number of subarray-sum
+ * queries without re-scanning or re-hashing the input:
+ * longest subarray with a given sum and count of subarrays with a given sum in O(N),
+ * and range sums in O(1).
+ * Prefix sums are stored as long values, so they cannot overflow for any int input.
+ */
+public final class PrefixSumIndex {
+
+    private final long[] prefix;      // prefix[i] = arr[0] + ... + arr[i - 1], prefix[0] = 0
+    private final long[] keys;        // Distinct prefix values, ascending
+    private final int[] groupStart;   // positions[groupStart[g] .. groupStart[g + 1]) hold the indices of keys[g]
+    private final int[] positions;    // Prefix indices grouped by value, ascending inside every group
+
+    /**
+     * Builds the index for the given array. The array is copied, later changes to it
+     * are not reflected by the index.
+     *
+     * @param arr The input integer array.
+     * @throws IllegalArgumentException if the array is null.
+     */
+    public PrefixSumIndex(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null for prefix sum index.");
+        }
+
+        int n = arr.length;
+        prefix = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            prefix[i + 1] = prefix[i] + arr[i];
+        }
+
+        // 1. Collect the distinct prefix values in ascending order
+        long[] sorted = prefix.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        keys = Arrays.copyOf(sorted, distinct);
+
+        // 2. Counting sort of the prefix indices by group; scanning indices in order keeps every group ascending
+        int[] groupOf = new int[n + 1];
+        groupStart = new int[distinct + 1];
+        for (int i = 0; i <= n; i++) {
+            groupOf[i] = Arrays.binarySearch(keys, prefix[i]);
+            groupStart[groupOf[i] + 1]++;
+        }
+        for (int g = 0; g < distinct; g++) {
+            groupStart[g + 1] += groupStart[g];
+        }
+        positions = new int[n + 1];
+        int[] next = Arrays.copyOf(groupStart, distinct);
+        for (int i = 0; i <= n; i++) {
+            positions[next[groupOf[i]]++] = i;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the indexed array.
+     *
+     * @return The array length.
+     */
+    public int length() {
+        return prefix.length - 1;
+    }
+
+    /**
+     * Returns the sum of the elements arr[from] .. arr[to] (both inclusive) in O(1).
+     *
+     * @param from The starting index (inclusive).
+     * @param to The ending index (inclusive).
+     * @return The range sum.
+     * @throws IllegalArgumentException if the range is out of bounds or empty.
+     */
+    public long rangeSum(int from, int to) {
+        if (from < 0 || to >= length() || from > to) {
+            throw new IllegalArgumentException("Invalid range for range sum: [" + from + ", " + to + "]");
+        }
+        return prefix[to + 1] - prefix[from];
+    }
+
+    /**
+     * Finds the length of the longest subarray whose elements sum up to the target sum.
+     * Equivalent to ArrayUtils.longestSubarrayWithSum, but answered from the prebuilt index
+     * by walking the sorted distinct prefix values with two pointers (O(N) per query).
+     *
+     * @param targetSum The desired sum.
+     * @return The length of the longest subarray with the given sum, or 0 if none is found.
+     */
+    public int longestSubarrayWithSum(long targetSum) {
+        int maxLength = 0;
+        int lo = 0; // Group holding the candidate value keys[hi] - targetSum
+
+        for (int hi = 0; hi < keys.length; hi++) {
+            long needed = keys[hi] - targetSum;
+            lo = advanceTo(lo, needed);
+            if (lo < keys.length && keys[lo] == needed) {
+                // Longest span: first occurrence of the needed prefix to the last occurrence of the current one
+                int length = positions[groupStart[hi + 1] - 1] - positions[groupStart[lo]];
+                if (length > maxLength) {
+                    maxLength = length;
+                }
+            }
+        }
+        return maxLength;
+    }
+
+    /**
+     * Counts the subarrays (of length at least one) whose elements sum up to the target sum.
+     * Every prefix index takes part in at most two group merges, so a query is O(N).
+     *
+     * @param targetSum The desired sum.
+     * @return The number of subarrays with the given sum.
+     */
+    public long countSubarraysWithSum(long targetSum) {
+        long count = 0;
+        int lo = 0;
+
+        for (int hi = 0; hi < keys.length; hi++) {
+            long needed = keys[hi] - targetSum;
+            lo = advanceTo(lo, needed);
+            if (lo >= keys.length || keys[lo] != needed) {
+                continue;
+            }
+
+            if (lo == hi) {
+                // targetSum == 0: every pair of equal prefixes forms a subarray
+                long size = groupStart[hi + 1] - groupStart[hi];
+                count += size * (size - 1) / 2;
+                continue;
+            }
+
+            // Count pairs (i, j) with i from the needed group, j from the current group and i < j
+            int i = groupStart[lo];
+            int iEnd = groupStart[lo + 1];
+            for (int p = groupStart[hi]; p < groupStart[hi + 1]; p++) {
+                while (i < iEnd && positions[i] < positions[p]) {
+                    i++;
+                }
+                count += i - groupStart[lo];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves the key cursor forward to the first group whose value is not smaller than the given value.
+     * Since the queried values grow with the outer loop, the cursor never moves backwards.
+     */
+    private int advanceTo(int cursor, long value) {
+        while (cursor < keys.length && keys[cursor] < value) {
+            cursor++;
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,35 @@
+package org.utils;
+
+/**
+ * Algorithms available to ArrayUtils.rotate(int[], int, RotationMode).
+ */
+public enum RotationMode {
+
+    /**
+     * Chooses one of the other modes from the array length and the rotation distance.
+     */
+    AUTO,
+
+    /**
+     * The classic three-reverse rotation: sequential, in place, touches every element twice.
+     */
+    REVERSAL,
+
+    /**
+     * GCD-cycle (juggling) rotation: moves every element exactly once along gcd(n, k) cycles,
+     * but the strided access pattern is cache-unfriendly on large arrays.
+     */
+    JUGGLING,
+
+    /**
+     * Copies the shorter side into a scratch buffer and shifts the rest with System.arraycopy.
+     * Fastest when the shorter side is small; needs O(min(k, n - k)) extra space.
+     */
+    BLOCK_SWAP,
+
+    /**
+     * Three-reverse rotation where every reversal is split into blocks of swaps that run
+     * on the common ForkJoinPool. In place and scales with the number of cores.
+     */
+    PARALLEL
+}
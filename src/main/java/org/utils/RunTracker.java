@@ -0,0 +1,255 @@
+package org.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Appendable int buffer that keeps its sortedness statistics up to date as values arrive.
+ * A run is a maximal non-decreasing stretch of consecutive values; every append updates the
+ * run count, the longest run length and the run boundaries in O(1) amortized time, so
+ * isSorted() never rescans the buffer the way ArrayUtils.isSorted does.
+ * sort() uses the recorded runs as a fast path: it does nothing for a sorted buffer and
+ * otherwise merges the existing runs (O(N log R) for R runs) instead of sorting from scratch.
+ * Writers (append, sort) are serialized; readers may run concurrently with each other and with
+ * a writer: the statistics are single volatile reads and element access uses optimistic reads.
+ */
+public final class RunTracker {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private int[] data;
+    private int[] runStarts;           // runStarts[0 .. runs) = first index of every run
+    private volatile int size;
+    private volatile int runs;
+    private volatile int longestRun;
+    private int currentRun;            // Length of the last run
+
+    /**
+     * Creates an empty tracker.
+     */
+    public RunTracker() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty tracker with room for the given number of values before growing.
+     *
+     * @param initialCapacity The initial buffer capacity.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public RunTracker(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        data = new int[initialCapacity];
+        runStarts = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Appends one value in O(1) amortized time.
+     *
+     * @param value The value to append.
+     */
+    public void append(int value) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + 1);
+            appendUnlocked(value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all values in order, taking the write lock only once.
+     *
+     * @param values The values to append.
+     * @throws IllegalArgumentException if values is null.
+     */
+    public void appendAll(int... values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null.");
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + values.length);
+            for (int value : values) {
+                appendUnlocked(value);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void appendUnlocked(int value) {
+        int n = size;
+        if (n == 0 || value < data[n - 1]) {
+            if (runs == runStarts.length) {
+                runStarts = Arrays.copyOf(runStarts, runStarts.length * 2);
+            }
+            runStarts[runs] = n;
+            currentRun = 1;
+        } else {
+            currentRun++;
+        }
+        data[n] = value;
+        if (currentRun == 1) {
+            runs = runs + 1;
+        }
+        if (currentRun > longestRun) {
+            longestRun = currentRun;
+        }
+        size = n + 1; // Volatile write last: publishes the new element to readers
+    }
+
+    private void ensureCapacity(int required) {
+        if (required < 0) {
+            throw new IllegalStateException("Run tracker cannot hold more than Integer.MAX_VALUE values.");
+        }
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, Math.max(DEFAULT_CAPACITY, data.length * 2)));
+        }
+    }
+
+    /**
+     * Returns the number of values appended so far.
+     *
+     * @return The buffer size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index The element index.
+     * @return The element value.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public int get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int[] current = data;
+        int n = size;
+        int value = (index >= 0 && index < n && index < current.length) ? current[index] : 0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = size;
+                value = (index >= 0 && index < n) ? data[index] : 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether the buffer is sorted in ascending order, in O(1).
+     *
+     * @return true if the buffer holds at most one run, false otherwise.
+     */
+    public boolean isSorted() {
+        return runs <= 1;
+    }
+
+    /**
+     * Returns the number of maximal non-decreasing runs (0 for an empty buffer).
+     *
+     * @return The run count.
+     */
+    public int runCount() {
+        return runs;
+    }
+
+    /**
+     * Returns the length of the longest non-decreasing run (0 for an empty buffer).
+     *
+     * @return The longest run length.
+     */
+    public int longestRun() {
+        return longestRun;
+    }
+
+    /**
+     * Copies the buffer into a new array.
+     *
+     * @return The appended values in order.
+     */
+    public int[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(data, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Sorts the buffer in place, only if needed: a sorted buffer is left untouched in O(1),
+     * otherwise the recorded runs are merged pairwise (natural merge sort, stable).
+     * Afterwards the buffer is a single run and later appends continue tracking from there.
+     */
+    public void sort() {
+        if (isSorted()) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int n = size;
+            int count = runs;
+            if (count <= 1) {
+                return;
+            }
+
+            int[] bounds = Arrays.copyOf(runStarts, count + 1);
+            bounds[count] = n;
+            int[] src = data;
+            int[] dst = new int[n];
+            while (count > 1) {
+                int merged = 0;
+                for (int r = 0; r < count; r += 2) {
+                    int from = bounds[r];
+                    int to = bounds[Math.min(r + 2, count)];
+                    int mid = r + 1 < count ? bounds[r + 1] : to;
+                    mergeRuns(src, dst, from, mid, to);
+                    bounds[merged++] = from;
+                }
+                bounds[merged] = n;
+                count = merged;
+                int[] temp = src;
+                src = dst;
+                dst = temp;
+            }
+            if (src != data) {
+                System.arraycopy(src, 0, data, 0, n);
+            }
+
+            runStarts[0] = 0;
+            currentRun = n;
+            longestRun = n;
+            runs = 1;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Merges the sorted ranges src[from .. mid) and src[mid .. to) into dst[from .. to), stably.
+     */
+    private static void mergeRuns(int[] src, int[] dst, int from, int mid, int to) {
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && src[i] <= src[j])) {
+                dst[k] = src[i++];
+            } else {
+                dst[k] = src[j++];
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.utils;
+
+// GENERATED FILE - DO NOT EDIT.
+// Generated from src/main/templates/PrimitiveArrayUtils.java.template;
+// run org.test.PrimitiveArrayUtilsTest#main to regenerate after changing the template.
+
+import java.util.Arrays;
+
+/**
+ * Utility class containing the core ArrayUtils operations specialized for short arrays,
+ * so short data can be processed without boxing or copying into int arrays.
+ * Elements are ordered and compared as by Short.compare, which is also the order used by sort.
+ */
+public final class ShortArrayUtils {
+
+    // Private constructor to prevent instantiation
+    private ShortArrayUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    // --- Utility Functions ---
+
+    /**
+     * Finds the minimum element in an array.
+     *
+     * @param arr The input short array.
+     * @return The minimum element in the array.
+     * @throws IllegalArgumentException if the array is null or empty.
+     */
+    public static short min(short[] arr) {
+        if (arr == null || arr.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty for min operation.");
+        }
+
+        short minValue = arr[0];
+        for (int i = 1; i < arr.length; i++) {
+            if (Short.compare(arr[i], minValue) < 0) {
+                minValue = arr[i];
+            }
+        }
+        return minValue;
+    }
+
+    /**
+     * Finds the maximum element in an array.
+     *
+     * @param arr The input short array.
+     * @return The maximum element in the array.
+     * @throws IllegalArgumentException if the array is null or empty.
+     */
+    public static short max(short[] arr) {
+        if (arr == null || arr.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty for max operation.");
+        }
+
+        short maxValue = arr[0];
+        for (int i = 1; i < arr.length; i++) {
+            if (Short.compare(arr[i], maxValue) > 0) {
+                maxValue = arr[i];
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Checks if the array is sorted in ascending order.
+     *
+     * @param arr The input array.
+     * @return true if the array is sorted, false otherwise.
+     */
+    public static boolean isSorted(short[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return true;
+        }
+
+        for (int i = 0; i < arr.length - 1; i++) {
+            if (Short.compare(arr[i], arr[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // --- Algorithm Implementations ---
+
+    /**
+     * Sorts the array into ascending order in place. Arrays of at least
+     * ArrayUtils.PARALLEL_THRESHOLD elements are sorted on the common ForkJoinPool.
+     *
+     * @param arr The array to be sorted.
+     */
+    public static void sort(short[] arr) {
+        if (arr == null) {
+            return;
+        }
+        if (arr.length >= ArrayUtils.PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(arr);
+        } else {
+            Arrays.sort(arr);
+        }
+    }
+
+    /**
+     * Finds the index of the first occurrence of a target value in a sorted array
+     * using Binary Search. Returns -1 if the target is not found.
+     *
+     * @param arr The sorted input array.
+     * @param target The value to search for.
+     * @return The index of the first target occurrence, or -1.
+     */
+    public static int binarySearchFirstOccurrence(short[] arr, short target) {
+        if (arr == null) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = arr.length - 1;
+        int result = -1;
+
+        while (low <= high) {
+            int mid = low + (high - low) / 2;
+            int cmp = Short.compare(arr[mid], target);
+
+            if (cmp == 0) {
+                result = mid;
+                high = mid - 1;
+            } else if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rotates the array to the right by k steps in place, using the three-reverse approach.
+     *
+     * @param arr The array to rotate.
+     * @param k The number of steps to rotate to the right.
+     */
+    public static void rotate(short[] arr, int k) {
+        if (arr == null || arr.length == 0 || k < 0) {
+            return;
+        }
+
+        int n = arr.length;
+        k = k % n;
+        if (k == 0) {
+            return;
+        }
+
+        reverse(arr, 0, n - 1);
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+    }
+
+    /**
+     * Partitions the array around a pivot using the Lomuto partition scheme (used in QuickSort).
+     * Elements less than or equal to the pivot (the last element) are moved to the left.
+     *
+     * @param arr The array to partition.
+     * @param low The starting index of the subarray.
+     * @param high The ending index of the subarray.
+     * @return The final index of the pivot element.
+     * @throws IllegalArgumentException if array is null or indices are invalid.
+     */
+    public static int partition(short[] arr, int low, int high) {
+        if (arr == null || low > high) {
+            throw new IllegalArgumentException("Invalid array or indices for partition.");
+        }
+
+        short pivot = arr[high];
+        int i = low - 1;
+        for (int j = low; j < high; j++) {
+            if (Short.compare(arr[j], pivot) <= 0) {
+                i++;
+                swap(arr, i, j);
+            }
+        }
+        swap(arr, i + 1, high);
+        return i + 1;
+    }
+
+    /**
+     * Finds the Majority Element, which is the element that appears more than
+     * floor(n / 2) times, using the Boyer-Moore Voting Algorithm (O(N) time, O(1) space).
+     *
+     * @param arr The input short array.
+     * @return The majority element, or Short.MIN_VALUE if no majority element exists.
+     */
+    public static short majorityElement(short[] arr) {
+        if (arr == null || arr.length == 0) {
+            return Short.MIN_VALUE;
+        }
+
+        // Phase 1: Find a candidate
+        short candidate = arr[0];
+        int count = 1;
+        for (int i = 1; i < arr.length; i++) {
+            if (Short.compare(arr[i], candidate) == 0) {
+                count++;
+            } else if (--count == 0) {
+                candidate = arr[i];
+                count = 1;
+            }
+        }
+
+        // Phase 2: Verify the candidate
+        count = 0;
+        for (short value : arr) {
+            if (Short.compare(value, candidate) == 0) {
+                count++;
+            }
+        }
+        return count > arr.length / 2 ? candidate : Short.MIN_VALUE;
+    }
+
+    // --- Helpers ---
+
+    private static void reverse(short[] arr, int start, int end) {
+        while (start < end) {
+            swap(arr, start++, end--);
+        }
+    }
+
+    private static void swap(short[] arr, int i, int j) {
+        short temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,99 @@
+package org.utils;
+
+import java.util.Arrays;
+
+/**
+ * Result of a single-source shortest path computation: the distance of every node from the
+ * source as a long (so long paths cannot overflow), and the predecessor of every node on one
+ * shortest path, from which the path itself can be reconstructed.
+ */
+public final class ShortestPathTree {
+
+    /**
+     * Distance reported for nodes that cannot be reached from the source.
+     */
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final int source;
+    private final long[] distances;
+    private final int[] predecessors; // -1 for the source and unreached nodes
+
+    ShortestPathTree(int source, long[] distances, int[] predecessors) {
+        this.source = source;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * Returns the source node.
+     *
+     * @return The source node.
+     */
+    public int source() {
+        return source;
+    }
+
+    /**
+     * Returns the shortest distance from the source to a node.
+     *
+     * @param node The node index.
+     * @return The distance, or UNREACHABLE.
+     */
+    public long distance(int node) {
+        return distances[node];
+    }
+
+    /**
+     * Checks whether a node was reached from the source.
+     *
+     * @param node The node index.
+     * @return true if the node has a finite distance.
+     */
+    public boolean isReachable(int node) {
+        return distances[node] != UNREACHABLE;
+    }
+
+    /**
+     * Returns the node before the given node on its shortest path.
+     *
+     * @param node The node index.
+     * @return The predecessor, or -1 for the source and unreachable nodes.
+     */
+    public int predecessor(int node) {
+        return predecessors[node];
+    }
+
+    /**
+     * Returns a copy of all distances.
+     *
+     * @return An array where distance[i] is the distance from the source to i (UNREACHABLE if none).
+     */
+    public long[] distances() {
+        return distances.clone();
+    }
+
+    /**
+     * Reconstructs the shortest path from the source to a node by following predecessors.
+     *
+     * @param node The target node.
+     * @return The nodes on the path, from the source to the target, or an empty array if unreachable.
+     */
+    public int[] pathTo(int node) {
+        if (!isReachable(node)) {
+            return new int[0];
+        }
+        int[] path = new int[16];
+        int length = 0;
+        for (int v = node; v != -1; v = predecessors[v]) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            path[length++] = v;
+        }
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = path[length - 1 - i];
+        }
+        return result;
+    }
+}
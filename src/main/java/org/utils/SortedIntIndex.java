@@ -0,0 +1,186 @@
+package org.utils;
+
+import java.util.stream.IntStream;
+
+/**
+ * Immutable search index over a sorted integer array, built once and queried many times.
+ * Besides a plain copy of the array, the index stores the values in Eytzinger (BFS) order:
+ * the children of slot k live at 2k and 2k + 1, so the first levels of every search share the
+ * same few cache lines and the hardware prefetcher can fetch the next level ahead of time.
+ * The search loop is branch-free (the comparison result is added to the slot index), which avoids
+ * the branch mispredictions of a classic binary search.
+ * Batch queries walk sorted targets with galloping search over the plain copy and spread
+ * unsorted targets across the common ForkJoinPool.
+ */
+public final class SortedIntIndex {
+
+    /**
+     * Batches below this size are answered on the calling thread.
+     */
+    private static final int PARALLEL_BATCH_THRESHOLD = 1 << 12;
+
+    private final int[] sorted;   // Plain sorted copy, used for galloping and equality checks
+    private final int[] eytzinger; // eytzinger[1 .. n] in BFS order, slot 0 unused
+    private final int[] rank;     // rank[k] = position of eytzinger[k] in the sorted array
+
+    /**
+     * Builds the index. The array is copied, later changes to it are not reflected by the index.
+     *
+     * @param sortedArr An array sorted in ascending order (duplicates allowed).
+     * @throws IllegalArgumentException if the array is null or not sorted.
+     */
+    public SortedIntIndex(int[] sortedArr) {
+        if (sortedArr == null) {
+            throw new IllegalArgumentException("Array cannot be null for sorted index.");
+        }
+        if (!ArrayUtils.isSorted(sortedArr)) {
+            throw new IllegalArgumentException("Array must be sorted in ascending order for sorted index.");
+        }
+        sorted = sortedArr.clone();
+        eytzinger = new int[sorted.length + 1];
+        rank = new int[sorted.length + 1];
+        fill(0, 1);
+    }
+
+    /**
+     * In-order walk of the implicit tree: assigns the sorted values to the Eytzinger slots.
+     *
+     * @return The next sorted position to assign.
+     */
+    private int fill(int next, int slot) {
+        if (slot <= sorted.length) {
+            next = fill(next, 2 * slot);
+            eytzinger[slot] = sorted[next];
+            rank[slot] = next;
+            next++;
+            next = fill(next, 2 * slot + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return The array length.
+     */
+    public int length() {
+        return sorted.length;
+    }
+
+    /**
+     * Returns the index of the first element that is not smaller than the target.
+     *
+     * @param target The value to search for.
+     * @return The lower bound, or length() if every element is smaller.
+     */
+    public int lowerBound(int target) {
+        int n = sorted.length;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (eytzinger[k] < target ? 1 : 0);
+        }
+        // Undo the trailing right turns (and the last left turn) to land on the answer slot
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? n : rank[k];
+    }
+
+    /**
+     * Returns the index of the first element that is greater than the target.
+     *
+     * @param target The value to search for.
+     * @return The upper bound, or length() if no element is greater.
+     */
+    public int upperBound(int target) {
+        int n = sorted.length;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (eytzinger[k] <= target ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? n : rank[k];
+    }
+
+    /**
+     * Finds the index of the first occurrence of a target value, like
+     * ArrayUtils.binarySearchFirstOccurrence on the indexed array.
+     *
+     * @param target The value to search for.
+     * @return The index of the first target occurrence, or -1.
+     */
+    public int firstIndex(int target) {
+        int index = lowerBound(target);
+        return (index < sorted.length && sorted[index] == target) ? index : -1;
+    }
+
+    /**
+     * Counts the elements inside the inclusive value range [from, to].
+     *
+     * @param from The smallest value to count.
+     * @param to The largest value to count.
+     * @return The number of elements x with from <= x <= to, or 0 if from > to.
+     */
+    public int countInRange(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return upperBound(to) - lowerBound(from);
+    }
+
+    /**
+     * Answers many first-occurrence queries at once.
+     * Sorted targets are resolved in a single forward sweep with galloping (exponential) search
+     * starting from the previous answer, so close targets cost O(log distance) each.
+     * Unsorted targets are searched independently, in parallel for large batches.
+     *
+     * @param targets The values to search for.
+     * @return An array where result[i] is firstIndex(targets[i]).
+     * @throws IllegalArgumentException if targets is null.
+     */
+    public int[] firstIndex(int[] targets) {
+        if (targets == null) {
+            throw new IllegalArgumentException("Targets cannot be null.");
+        }
+        int[] result = new int[targets.length];
+
+        if (ArrayUtils.isSorted(targets)) {
+            int from = 0;
+            for (int t = 0; t < targets.length; t++) {
+                from = gallopLowerBound(targets[t], from);
+                result[t] = (from < sorted.length && sorted[from] == targets[t]) ? from : -1;
+            }
+            return result;
+        }
+
+        IntStream indices = IntStream.range(0, targets.length);
+        if (targets.length >= PARALLEL_BATCH_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(t -> result[t] = firstIndex(targets[t]));
+        return result;
+    }
+
+    /**
+     * Lower bound search restricted to sorted[from ..], probing from, from + 1, from + 2, from + 4, ...
+     * until the target is passed, then binary searching the last gap.
+     */
+    private int gallopLowerBound(int target, int from) {
+        int n = sorted.length;
+        int low = from;
+        long step = 1;
+        int high = from;
+        while (high < n && sorted[high] < target) {
+            low = high + 1;
+            high = (int) Math.min(from + step, n);
+            step <<= 1;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,258 @@
+package org.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Utility class containing set operations over sorted integer arrays (e.g. posting lists).
+ * Inputs must be sorted in ascending order and may contain duplicates; results are sorted
+ * and duplicate-free. Null inputs are treated as empty sets.
+ * Each operation adapts to the size ratio of its inputs: similar sizes use a linear merge,
+ * while a much larger second input is probed with galloping (exponential) search, so the cost
+ * is O(m log(n / m)) instead of O(n + m).
+ */
+public final class SortedSetUtils {
+
+    /**
+     * Size ratio (larger / smaller) from which galloping beats a linear merge.
+     */
+    static final int GALLOP_RATIO = 32;
+
+    // Private constructor to prevent instantiation
+    private SortedSetUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    // --- Two-Set Operations ---
+
+    /**
+     * Computes the intersection of two sorted arrays.
+     *
+     * @param arr1 The first sorted array.
+     * @param arr2 The second sorted array.
+     * @return The sorted, distinct values present in both arrays.
+     */
+    public static int[] intersect(int[] arr1, int[] arr2) {
+        if (isEmpty(arr1) || isEmpty(arr2)) {
+            return new int[0];
+        }
+        int[] small = arr1.length <= arr2.length ? arr1 : arr2;
+        int[] large = small == arr1 ? arr2 : arr1;
+        int[] out = new int[small.length];
+        return Arrays.copyOf(out, intersectInto(small, large, out));
+    }
+
+    /**
+     * Counts the distinct values present in both sorted arrays without materializing them.
+     *
+     * @param arr1 The first sorted array.
+     * @param arr2 The second sorted array.
+     * @return The size of the intersection.
+     */
+    public static int intersectCount(int[] arr1, int[] arr2) {
+        if (isEmpty(arr1) || isEmpty(arr2)) {
+            return 0;
+        }
+        int[] small = arr1.length <= arr2.length ? arr1 : arr2;
+        int[] large = small == arr1 ? arr2 : arr1;
+        return intersectInto(small, large, null);
+    }
+
+    /**
+     * Computes the union of two sorted arrays with a linear merge (O(N + M)).
+     *
+     * @param arr1 The first sorted array.
+     * @param arr2 The second sorted array.
+     * @return The sorted, distinct values present in either array.
+     */
+    public static int[] union(int[] arr1, int[] arr2) {
+        int n = isEmpty(arr1) ? 0 : arr1.length;
+        int m = isEmpty(arr2) ? 0 : arr2.length;
+        int[] out = new int[n + m];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < n || j < m) {
+            int value;
+            if (j >= m || (i < n && arr1[i] <= arr2[j])) {
+                value = arr1[i++];
+            } else {
+                value = arr2[j++];
+            }
+            if (size == 0 || out[size - 1] != value) {
+                out[size++] = value;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    /**
+     * Computes the difference arr1 \ arr2 of two sorted arrays.
+     *
+     * @param arr1 The sorted array to subtract from.
+     * @param arr2 The sorted array of values to remove.
+     * @return The sorted, distinct values of arr1 that are not in arr2.
+     */
+    public static int[] difference(int[] arr1, int[] arr2) {
+        if (isEmpty(arr1)) {
+            return new int[0];
+        }
+        int m = isEmpty(arr2) ? 0 : arr2.length;
+        boolean gallop = m / arr1.length >= GALLOP_RATIO;
+        int[] out = new int[arr1.length];
+        int size = 0;
+        int j = 0;
+
+        for (int i = 0; i < arr1.length; i++) {
+            int value = arr1[i];
+            if (size > 0 && out[size - 1] == value) {
+                continue;
+            }
+            if (gallop) {
+                j = gallopLowerBound(arr2, j, value);
+            } else {
+                while (j < m && arr2[j] < value) {
+                    j++;
+                }
+            }
+            if (j >= m || arr2[j] != value) {
+                out[size++] = value;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    // --- K-Way Intersection ---
+
+    /**
+     * Intersects any number of sorted arrays (e.g. posting lists of a multi-term query).
+     * Uses the small-versus-small strategy: the lists are processed from shortest to longest and
+     * every step intersects the current (shrinking) result with the next list, galloping when the
+     * list is much longer. Stops early as soon as the result becomes empty.
+     *
+     * @param lists The sorted arrays to intersect.
+     * @return The sorted, distinct values present in every array (empty if no lists are given).
+     */
+    public static int[] intersectAll(int[]... lists) {
+        if (lists == null || lists.length == 0) {
+            return new int[0];
+        }
+        for (int[] list : lists) {
+            if (isEmpty(list)) {
+                return new int[0];
+            }
+        }
+
+        int[][] ordered = lists.clone();
+        Arrays.sort(ordered, Comparator.comparingInt(list -> list.length));
+
+        // Deduplicate the shortest list to seed the candidate set
+        int[] result = union(ordered[0], null);
+        int size = result.length;
+        for (int l = 1; l < ordered.length && size > 0; l++) {
+            int[] candidates = size == result.length ? result : Arrays.copyOf(result, size);
+            size = intersectInto(candidates, ordered[l], result);
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // --- Helpers ---
+
+    /**
+     * Intersects small with large, choosing the merge or galloping strategy by size ratio.
+     * Writes the distinct common values into out (if out is not null) and returns their count.
+     * out may alias small, because writes never overtake the read position.
+     */
+    private static int intersectInto(int[] small, int[] large, int[] out) {
+        if (large.length / small.length >= GALLOP_RATIO) {
+            return intersectGalloping(small, large, out);
+        }
+        return intersectLinear(small, large, out);
+    }
+
+    /**
+     * Linear merge intersection. Both cursors advance by the comparison results instead of
+     * branching on them, which keeps the loop friendly to the branch predictor.
+     */
+    private static int intersectLinear(int[] a, int[] b, int[] out) {
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        boolean hasLast = false;
+        int last = 0;
+
+        while (i < a.length && j < b.length) {
+            int x = a[i];
+            int y = b[j];
+            if (x == y) {
+                if (!hasLast || last != x) {
+                    if (out != null) {
+                        out[size] = x;
+                    }
+                    size++;
+                    last = x;
+                    hasLast = true;
+                }
+                i++;
+                j++;
+            } else {
+                i += x < y ? 1 : 0;
+                j += x > y ? 1 : 0;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Galloping intersection: every distinct value of the small array is located in the large
+     * array with an exponential search that starts at the previous match.
+     */
+    private static int intersectGalloping(int[] small, int[] large, int[] out) {
+        int j = 0;
+        int size = 0;
+        for (int i = 0; i < small.length && j < large.length; i++) {
+            int value = small[i];
+            if (i > 0 && small[i - 1] == value) {
+                continue;
+            }
+            j = gallopLowerBound(large, j, value);
+            if (j < large.length && large[j] == value) {
+                if (out != null) {
+                    out[size] = value;
+                }
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the first index >= from whose value is not smaller than the target, probing
+     * from, from + 1, from + 2, from + 4, ... and binary searching the last gap.
+     */
+    private static int gallopLowerBound(int[] arr, int from, int target) {
+        int n = arr == null ? 0 : arr.length;
+        int low = from;
+        long step = 1;
+        int high = from;
+        while (high < n && arr[high] < target) {
+            low = high + 1;
+            high = (int) Math.min(from + step, n);
+            step <<= 1;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isEmpty(int[] arr) {
+        return arr == null || arr.length == 0;
+    }
+}
@@ -0,0 +1,141 @@
+package org.utils;
+
+import java.util.stream.IntStream;
+
+/**
+ * Immutable sparse table over an integer array for O(1) range minimum and maximum queries.
+ * Level k stores the min and max of every window of 2^k elements, so any range [from, to] is
+ * covered by two (possibly overlapping) windows of the largest power of two that fits.
+ * Building takes O(N log N) time and memory; the table never changes afterwards, so it can be
+ * queried from any number of threads.
+ */
+public final class SparseTable {
+
+    /**
+     * Batches below this size are answered on the calling thread.
+     */
+    private static final int PARALLEL_BATCH_THRESHOLD = 1 << 12;
+
+    private final int length;
+    private final int[][] min; // min[k][i] = min of arr[i .. i + 2^k - 1]
+    private final int[][] max; // max[k][i] = max of arr[i .. i + 2^k - 1]
+
+    /**
+     * Builds the table for the given array. Later changes to the array are not reflected.
+     *
+     * @param arr The input integer array.
+     * @throws IllegalArgumentException if the array is null.
+     */
+    public SparseTable(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null for sparse table.");
+        }
+        length = arr.length;
+        int levels = length == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(length);
+        min = new int[levels][];
+        max = new int[levels][];
+        if (levels == 0) {
+            return;
+        }
+
+        min[0] = arr.clone();
+        max[0] = min[0];
+        for (int k = 1; k < levels; k++) {
+            int half = 1 << (k - 1);
+            int windows = length - (1 << k) + 1;
+            int[] prevMin = min[k - 1];
+            int[] prevMax = max[k - 1];
+            int[] levelMin = new int[windows];
+            int[] levelMax = new int[windows];
+            for (int i = 0; i < windows; i++) {
+                levelMin[i] = Math.min(prevMin[i], prevMin[i + half]);
+                levelMax[i] = Math.max(prevMax[i], prevMax[i + half]);
+            }
+            min[k] = levelMin;
+            max[k] = levelMax;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the indexed array.
+     *
+     * @return The array length.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the minimum of arr[from] .. arr[to] (both inclusive) in O(1).
+     *
+     * @param from The starting index (inclusive).
+     * @param to The ending index (inclusive).
+     * @return The range minimum.
+     * @throws IllegalArgumentException if the range is out of bounds or empty.
+     */
+    public int rangeMin(int from, int to) {
+        checkRange(from, to);
+        int k = 31 - Integer.numberOfLeadingZeros(to - from + 1);
+        return Math.min(min[k][from], min[k][to - (1 << k) + 1]);
+    }
+
+    /**
+     * Returns the maximum of arr[from] .. arr[to] (both inclusive) in O(1).
+     *
+     * @param from The starting index (inclusive).
+     * @param to The ending index (inclusive).
+     * @return The range maximum.
+     * @throws IllegalArgumentException if the range is out of bounds or empty.
+     */
+    public int rangeMax(int from, int to) {
+        checkRange(from, to);
+        int k = 31 - Integer.numberOfLeadingZeros(to - from + 1);
+        return Math.max(max[k][from], max[k][to - (1 << k) + 1]);
+    }
+
+    /**
+     * Answers many range minimum queries at once, in parallel for large batches.
+     *
+     * @param from The starting indices (inclusive).
+     * @param to The ending indices (inclusive), one per starting index.
+     * @return An array where result[q] is rangeMin(from[q], to[q]).
+     * @throws IllegalArgumentException if the arrays are null, differ in length, or a range is invalid.
+     */
+    public int[] rangeMin(int[] from, int[] to) {
+        int[] result = new int[checkBatch(from, to)];
+        queries(result.length).forEach(q -> result[q] = rangeMin(from[q], to[q]));
+        return result;
+    }
+
+    /**
+     * Answers many range maximum queries at once, in parallel for large batches.
+     *
+     * @param from The starting indices (inclusive).
+     * @param to The ending indices (inclusive), one per starting index.
+     * @return An array where result[q] is rangeMax(from[q], to[q]).
+     * @throws IllegalArgumentException if the arrays are null, differ in length, or a range is invalid.
+     */
+    public int[] rangeMax(int[] from, int[] to) {
+        int[] result = new int[checkBatch(from, to)];
+        queries(result.length).forEach(q -> result[q] = rangeMax(from[q], to[q]));
+        return result;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to >= length || from > to) {
+            throw new IllegalArgumentException("Invalid range for range query: [" + from + ", " + to + "]");
+        }
+    }
+
+    private static int checkBatch(int[] from, int[] to) {
+        if (from == null || to == null || from.length != to.length) {
+            throw new IllegalArgumentException("Query bounds must be non-null arrays of equal length.");
+        }
+        return from.length;
+    }
+
+    private static IntStream queries(int count) {
+        IntStream indices = IntStream.range(0, count);
+        return count >= PARALLEL_BATCH_THRESHOLD ? indices.parallel() : indices;
+    }
+}
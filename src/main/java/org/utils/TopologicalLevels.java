@@ -0,0 +1,79 @@
+package org.utils;
+
+import java.util.Arrays;
+
+/**
+ * Result of a level-synchronous topological sort. In a DAG, the level of a node is the length of
+ * the longest path that ends in it: level-0 nodes have no predecessors and every node is one level
+ * above its deepest predecessor, so all nodes of one level can be scheduled at the same time.
+ * If the graph is cyclic, no levels are available and cycle() returns one offending cycle.
+ */
+public final class TopologicalLevels {
+
+    private final int[] order;   // Nodes grouped by level, empty if cyclic
+    private final int[] levels;  // -1 for every node if cyclic
+    private final int depth;
+    private final int[] cycle;
+
+    TopologicalLevels(int[] order, int[] levels, int depth, int[] cycle) {
+        this.order = order;
+        this.levels = levels;
+        this.depth = depth;
+        this.cycle = cycle;
+    }
+
+    /**
+     * Checks whether the graph is a DAG.
+     *
+     * @return true if the graph has no cycle.
+     */
+    public boolean isAcyclic() {
+        return cycle.length == 0;
+    }
+
+    /**
+     * Returns the level of a node.
+     *
+     * @param node The node index.
+     * @return The level (0 for nodes without predecessors), or -1 if the graph is cyclic.
+     */
+    public int level(int node) {
+        return levels[node];
+    }
+
+    /**
+     * Returns a copy of all levels.
+     *
+     * @return An array where levels[i] is the level of node i (all -1 if the graph is cyclic).
+     */
+    public int[] levels() {
+        return levels.clone();
+    }
+
+    /**
+     * Returns the number of levels, i.e. the number of nodes on the longest path.
+     *
+     * @return The depth of the DAG, or 0 if the graph is empty or cyclic.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns a topological order in which the nodes are grouped by ascending level.
+     *
+     * @return The order, or an empty array if the graph is cyclic.
+     */
+    public int[] order() {
+        return order.clone();
+    }
+
+    /**
+     * Returns the nodes of one of the graph's cycles.
+     *
+     * @return The cycle as c[0] -> c[1] -> ... -> c[k - 1] -> c[0], or an empty array if the graph is acyclic.
+     */
+    public int[] cycle() {
+        return Arrays.copyOf(cycle, cycle.length);
+    }
+}
@@ -3,11 +3,19 @@ package org.test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.utils.ArrayUtils;
+import org.utils.PivotStrategy;
+import org.utils.RotationMode;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -174,6 +182,88 @@ public class ArrayUtilsTest {
         ArrayUtils.mergeSort(null);
     }
 
+    // =========================================================================
+    //                    TESTS FOR sortIndices() / sortBy()
+    // =========================================================================
+
+    @Test
+    @DisplayName("sortIndices(): Should return a stable argsort for a small array")
+    void testSortIndicesSmallStable() {
+        int[] keys = {3, -1, 3, 0, -1};
+        assertArrayEquals(new int[]{1, 4, 3, 0, 2}, ArrayUtils.sortIndices(keys));
+        assertArrayEquals(new int[]{3, -1, 3, 0, -1}, keys); // Keys are left untouched
+    }
+
+    @Test
+    @DisplayName("sortIndices(): Should match a stable reference sort on large arrays (radix and parallel paths)")
+    void testSortIndicesLargeMatchesReference() {
+        Random random = new Random(38);
+        for (int n : new int[]{1_000, 200_000}) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = i % 3 == 0 ? random.nextInt(50) : random.nextInt(); // Many duplicates plus full range
+            }
+            Integer[] boxed = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, (a, b) -> Integer.compare(keys[a], keys[b])); // Stable merge sort
+            int[] expected = Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(expected, ArrayUtils.sortIndices(keys));
+        }
+    }
+
+    @Test
+    @DisplayName("sortIndices(): Should handle keys sharing high digits and extreme values")
+    void testSortIndicesNarrowAndExtremeKeys() {
+        int[] keys = new int[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 99 - i;
+        }
+        int[] perm = ArrayUtils.sortIndices(keys);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(99 - i, perm[i]);
+        }
+
+        int[] extremes = new int[80];
+        Arrays.fill(extremes, 0);
+        extremes[5] = Integer.MAX_VALUE;
+        extremes[6] = Integer.MIN_VALUE;
+        perm = ArrayUtils.sortIndices(extremes);
+        assertEquals(6, perm[0]);
+        assertEquals(5, perm[79]);
+    }
+
+    @Test
+    @DisplayName("sortIndices(): Should throw for null keys and return empty for empty keys")
+    void testSortIndicesInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.sortIndices(null));
+        assertArrayEquals(new int[0], ArrayUtils.sortIndices(new int[0]));
+    }
+
+    @Test
+    @DisplayName("sortBy(): Should sort keys and co-sort every payload stably")
+    void testSortByPayloads() {
+        int[] keys = {30, 10, 20, 10};
+        int[] ids = {0, 1, 2, 3};
+        int[] values = {300, 100, 200, 101};
+        ArrayUtils.sortBy(keys, ids, values);
+        assertArrayEquals(new int[]{10, 10, 20, 30}, keys);
+        assertArrayEquals(new int[]{1, 3, 2, 0}, ids);
+        assertArrayEquals(new int[]{100, 101, 200, 300}, values);
+    }
+
+    @Test
+    @DisplayName("sortBy(): Should work without payloads and reject mismatched payloads")
+    void testSortByInvalid() {
+        int[] keys = {2, 1};
+        ArrayUtils.sortBy(keys);
+        assertArrayEquals(new int[]{1, 2}, keys);
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.sortBy(null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.sortBy(new int[]{1, 2}, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.sortBy(new int[]{1}, (int[]) null));
+    }
+
     // =========================================================================
     //                      TESTS FOR twoSumUniquePairs()
     // =========================================================================
@@ -267,6 +357,71 @@ public class ArrayUtilsTest {
         assertEquals(1, ArrayUtils.twoSumUniquePairs(arr, 10));
     }
 
+    // =========================================================================
+    //                 TESTS FOR twoSumUniquePairsPreserving()
+    // =========================================================================
+
+    @Test
+    @DisplayName("twoSumUniquePairsPreserving(): Should count pairs without modifying the input")
+    void testTwoSumPreservingLeavesInputUntouched() {
+        int[] arr = new int[]{5, 1, 4, 2, 3, 1};
+        assertEquals(2, ArrayUtils.twoSumUniquePairsPreserving(arr, 6)); // (1, 5), (2, 4)
+        assertArrayEquals(new int[]{5, 1, 4, 2, 3, 1}, arr);
+    }
+
+    @Test
+    @DisplayName("twoSumUniquePairsPreserving(): Should require two occurrences for a pair of equal values")
+    void testTwoSumPreservingEqualValues() {
+        assertEquals(0, ArrayUtils.twoSumUniquePairsPreserving(new int[]{3, 1}, 6));
+        assertEquals(1, ArrayUtils.twoSumUniquePairsPreserving(new int[]{3, 1, 3}, 6));
+    }
+
+    @Test
+    @DisplayName("twoSumUniquePairsPreserving(): Should handle null and tiny arrays")
+    void testTwoSumPreservingNullAndTiny() {
+        assertEquals(0, ArrayUtils.twoSumUniquePairsPreserving(null, 4));
+        assertEquals(0, ArrayUtils.twoSumUniquePairsPreserving(new int[]{2}, 4));
+    }
+
+    @Test
+    @DisplayName("twoSumUniquePairsPreserving(): Hash path should agree with the sort-based count on large arrays")
+    void testTwoSumPreservingLargeMatchesSorting() {
+        Random random = new Random(27);
+        int[] arr = random.ints(5000, -300, 300).toArray();
+        int[] copy = arr.clone();
+        for (int target = -50; target <= 50; target += 7) {
+            assertEquals(ArrayUtils.twoSumUniquePairs(arr.clone(), target), ArrayUtils.twoSumUniquePairsPreserving(arr, target));
+        }
+        assertArrayEquals(copy, arr);
+    }
+
+    @Test
+    @DisplayName("twoSumUniquePairsPreserving(): Should not overflow for extreme values")
+    void testTwoSumPreservingNoOverflow() {
+        int[] arr = new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, 1};
+        assertEquals(0, ArrayUtils.twoSumUniquePairsPreserving(arr, -2));
+        assertEquals(1, ArrayUtils.twoSumUniquePairsPreserving(arr, -1)); // (MIN_VALUE, MAX_VALUE)
+    }
+
+    // =========================================================================
+    //                    TESTS FOR twoSumUniquePairsBatch()
+    // =========================================================================
+
+    @Test
+    @DisplayName("twoSumUniquePairsBatch(): Should answer every target against one sorted copy")
+    void testTwoSumBatch() {
+        int[] arr = new int[]{1, 5, 2, 4, 3};
+        assertArrayEquals(new int[]{2, 2, 0}, ArrayUtils.twoSumUniquePairsBatch(arr, new int[]{6, 5, 100}));
+        assertArrayEquals(new int[]{1, 5, 2, 4, 3}, arr);
+    }
+
+    @Test
+    @DisplayName("twoSumUniquePairsBatch(): Should handle null inputs")
+    void testTwoSumBatchNull() {
+        assertArrayEquals(new int[]{0, 0}, ArrayUtils.twoSumUniquePairsBatch(null, new int[]{1, 2}));
+        assertArrayEquals(new int[]{}, ArrayUtils.twoSumUniquePairsBatch(new int[]{1, 2}, null));
+    }
+
     // =========================================================================
     //                        TESTS FOR majorityElement()
     // =========================================================================
@@ -301,6 +456,78 @@ public class ArrayUtilsTest {
         assertEquals(42, ArrayUtils.majorityElement(new int[]{42}));
     }
 
+    // =========================================================================
+    //                   TESTS FOR majorityElementParallel()
+    // =========================================================================
+
+    @Test
+    @DisplayName("majorityElementParallel(): Should find the majority element in a large array")
+    void testMajorityElementParallelLarge() {
+        Random random = new Random(28);
+        int[] arr = new int[200_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (i % 2 == 0 || i % 3 == 0) ? 7 : random.nextInt(1000) + 8;
+        }
+        assertEquals(7, ArrayUtils.majorityElementParallel(arr));
+    }
+
+    @Test
+    @DisplayName("majorityElementParallel(): Should return MIN_VALUE when no majority exists in a large array")
+    void testMajorityElementParallelNoMajority() {
+        int[] arr = new int[200_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i % 2;
+        }
+        assertEquals(Integer.MIN_VALUE, ArrayUtils.majorityElementParallel(arr));
+    }
+
+    @Test
+    @DisplayName("majorityElementParallel(): Should fall back to the sequential vote for small or empty arrays")
+    void testMajorityElementParallelSmall() {
+        assertEquals(2, ArrayUtils.majorityElementParallel(new int[]{2, 2, 1, 1, 2}));
+        assertEquals(Integer.MIN_VALUE, ArrayUtils.majorityElementParallel(new int[]{}));
+        assertEquals(Integer.MIN_VALUE, ArrayUtils.majorityElementParallel(null));
+    }
+
+    // =========================================================================
+    //                        TESTS FOR heavyHitters()
+    // =========================================================================
+
+    @Test
+    @DisplayName("heavyHitters(): Should return exactly the items above n/k after verification")
+    void testHeavyHittersVerified() {
+        int[] arr = new int[]{1, 1, 1, 2, 2, 2, 3, 4, 5, 6};
+        int[] result = ArrayUtils.heavyHitters(arr, 4, true);
+        Arrays.sort(result);
+        assertArrayEquals(new int[]{1, 2}, result);
+    }
+
+    @Test
+    @DisplayName("heavyHitters(): Unverified candidates should contain every heavy hitter of a large array")
+    void testHeavyHittersLargeUnverified() {
+        Random random = new Random(82);
+        int[] arr = new int[300_000];
+        for (int i = 0; i < arr.length; i++) {
+            int bucket = i % 10;
+            arr[i] = bucket < 3 ? 100 : bucket < 5 ? 200 : random.nextInt(100_000) + 1000;
+        }
+        int[] candidates = ArrayUtils.heavyHitters(arr, 8, false);
+        assertTrue(Arrays.stream(candidates).anyMatch(c -> c == 100));
+        assertTrue(Arrays.stream(candidates).anyMatch(c -> c == 200));
+        assertTrue(candidates.length <= 7);
+
+        int[] verified = ArrayUtils.heavyHitters(arr, 8, true);
+        Arrays.sort(verified);
+        assertArrayEquals(new int[]{100, 200}, verified);
+    }
+
+    @Test
+    @DisplayName("heavyHitters(): Should return an empty array for null or empty input")
+    void testHeavyHittersEmpty() {
+        assertArrayEquals(new int[]{}, ArrayUtils.heavyHitters(null, 3, true));
+        assertArrayEquals(new int[]{}, ArrayUtils.heavyHitters(new int[]{}, 3, true));
+    }
+
     // =========================================================================
     //                   TESTS FOR longestSubarrayWithSum()
     // =========================================================================
@@ -384,6 +611,106 @@ public class ArrayUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> ArrayUtils.maxProductSubarray(new int[]{}));
     }
 
+    // =========================================================================
+    //       TESTS FOR maxProductSubarrayParallel() / maxProductSubarrayExact()
+    // =========================================================================
+
+    @Test
+    @DisplayName("maxProductSubarrayParallel(): Should match the sequential scan on a large array")
+    void testMaxProductSubarrayParallelMatchesSequential() {
+        Random random = new Random(36);
+        int[] arr = new int[300_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextBoolean() ? 0 : random.nextInt(7) - 3; // Short runs, no overflow
+        }
+        assertEquals(ArrayUtils.maxProductSubarray(arr), ArrayUtils.maxProductSubarrayParallel(arr));
+        assertEquals(BigInteger.valueOf(ArrayUtils.maxProductSubarray(arr)), ArrayUtils.maxProductSubarrayExact(arr));
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayParallel(): Should combine negative runs across chunk boundaries")
+    void testMaxProductSubarrayParallelAcrossChunks() {
+        int[] arr = new int[200_000];
+        Arrays.fill(arr, 1);
+        arr[10] = -3;
+        arr[150_000] = -5;
+        arr[199_999] = 0;
+        assertEquals(15, ArrayUtils.maxProductSubarrayParallel(arr));
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayParallel(): Should handle small inputs like the sequential version")
+    void testMaxProductSubarrayParallelSmall() {
+        assertEquals(144, ArrayUtils.maxProductSubarrayParallel(new int[]{2, 3, -2, 4, -3}));
+        assertEquals(64, ArrayUtils.maxProductSubarrayParallel(new int[]{-1, 6, 0, -8, 2, 1, -2, 2}));
+        assertEquals(-5, ArrayUtils.maxProductSubarrayParallel(new int[]{-5}));
+        assertEquals(0, ArrayUtils.maxProductSubarrayParallel(new int[]{0, 0, 0}));
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayParallel(): Should stay correct when only intermediate products overflow")
+    void testMaxProductSubarrayParallelIntermediateOverflow() {
+        // The full product -2^93 overflows, but the best subarray is (-2^31)^2 = 2^62
+        int[] arr = {Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        assertEquals(1L << 62, ArrayUtils.maxProductSubarrayParallel(arr));
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayParallel(): Should throw instead of overflowing silently")
+    void testMaxProductSubarrayParallelOverflow() {
+        int[] arr = new int[70];
+        Arrays.fill(arr, 2);
+        assertThrows(ArithmeticException.class, () -> ArrayUtils.maxProductSubarrayParallel(arr));
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayParallel(): Should fail fast on long zero-free runs that overflow")
+    void testMaxProductSubarrayParallelOverflowFast() {
+        int[] arr = new int[400_000];
+        Arrays.fill(arr, 3);
+        // The BigInteger rescan used to take seconds here; the bound only guards against a regression
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(ArithmeticException.class, () -> ArrayUtils.maxProductSubarrayParallel(arr)));
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayParallel(): Should match the exact result when only negative products overflow")
+    void testMaxProductSubarrayParallelNegativeOverflow() {
+        Random random = new Random(360);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] arr = new int[2 + random.nextInt(12)];
+            for (int i = 0; i < arr.length; i++) {
+                int magnitude = random.nextBoolean() ? random.nextInt(4) : Integer.MAX_VALUE - random.nextInt(3);
+                arr[i] = random.nextInt(4) == 0 ? -magnitude : magnitude;
+            }
+            BigInteger exact = ArrayUtils.maxProductSubarrayExact(arr);
+            if (exact.bitLength() < Long.SIZE) {
+                assertEquals(exact.longValueExact(), ArrayUtils.maxProductSubarrayParallel(arr));
+            } else {
+                assertThrows(ArithmeticException.class, () -> ArrayUtils.maxProductSubarrayParallel(arr));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayExact(): Should return products beyond the long range exactly")
+    void testMaxProductSubarrayExactBeyondLong() {
+        int[] arr = new int[200_000];
+        Arrays.fill(arr, 1);
+        for (int i = 0; i < 70; i++) {
+            arr[100_000 + i * 1000] = 2;
+        }
+        arr[50_000] = -7;
+        assertEquals(BigInteger.TWO.pow(70), ArrayUtils.maxProductSubarrayExact(arr));
+    }
+
+    @Test
+    @DisplayName("maxProductSubarrayExact(): Should throw exception for null or empty array")
+    void testMaxProductSubarrayExactInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.maxProductSubarrayExact(null));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.maxProductSubarrayParallel(new int[]{}));
+    }
+
     // =========================================================================
     //                        TESTS FOR nextPermutation()
     // =========================================================================
@@ -485,6 +812,204 @@ public class ArrayUtilsTest {
         assertArrayEquals(new int[]{10, 20, 30, 40, 50}, arr);
     }
 
+    // =========================================================================
+    //          TESTS FOR partitionThreeWay() / partitionThreeWayParallel()
+    // =========================================================================
+
+    /**
+     * Helper asserting the three-way partition contract for the given bounds.
+     */
+    private void assertThreeWayPartitioned(int[] arr, int low, int high, int[] bounds) {
+        int pivot = arr[bounds[0]];
+        for (int i = low; i <= high; i++) {
+            if (i < bounds[0]) {
+                assertTrue(arr[i] < pivot);
+            } else if (i <= bounds[1]) {
+                assertEquals(pivot, arr[i]);
+            } else {
+                assertTrue(arr[i] > pivot);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("partitionThreeWay(): Should group all keys equal to the last-element pivot")
+    void testPartitionThreeWayLast() {
+        int[] arr = new int[]{3, 5, 3, 1, 3, 9, 0, 3};
+        int[] bounds = ArrayUtils.partitionThreeWay(arr, 0, arr.length - 1, PivotStrategy.LAST);
+        assertArrayEquals(new int[]{2, 5}, bounds);
+        assertThreeWayPartitioned(arr, 0, arr.length - 1, bounds);
+    }
+
+    @Test
+    @DisplayName("partitionThreeWay(): Every pivot strategy should produce a valid partition")
+    void testPartitionThreeWayStrategies() {
+        Random random = new Random(30);
+        for (PivotStrategy strategy : PivotStrategy.values()) {
+            int[] arr = random.ints(500, 0, 20).toArray();
+            int[] bounds = ArrayUtils.partitionThreeWay(arr, 10, 489, strategy);
+            assertThreeWayPartitioned(arr, 10, 489, bounds);
+        }
+    }
+
+    @Test
+    @DisplayName("partitionThreeWay(): Should pick the median value with median-of-3 and ninther")
+    void testPartitionThreeWayMedianStrategies() {
+        int[] arr = new int[]{9, 1, 8, 2, 5, 3, 7, 4, 6};
+        int[] bounds = ArrayUtils.partitionThreeWay(arr.clone(), 0, 8, PivotStrategy.MEDIAN_OF_3);
+        assertArrayEquals(new int[]{5, 5}, bounds); // median of 9, 5, 6 is 6
+        bounds = ArrayUtils.partitionThreeWay(arr.clone(), 0, 8, PivotStrategy.NINTHER);
+        assertEquals(bounds[0], bounds[1]);
+    }
+
+    @Test
+    @DisplayName("partitionThreeWay(): Should throw exception for invalid input")
+    void testPartitionThreeWayInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.partitionThreeWay(null, 0, 0, PivotStrategy.LAST));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.partitionThreeWay(new int[]{1}, 0, 1, PivotStrategy.LAST));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.partitionThreeWay(new int[]{1}, 0, 0, null));
+    }
+
+    @Test
+    @DisplayName("partitionThreeWayParallel(): Should match the sequential bounds and keep each block stable on large arrays")
+    void testPartitionThreeWayParallelLarge() {
+        Random random = new Random(31);
+        int[] arr = random.ints(300_000, 0, 50).toArray();
+        int[] sequential = arr.clone();
+        int[] parallel = arr.clone();
+        int[] expected = ArrayUtils.partitionThreeWay(sequential, 0, arr.length - 1, PivotStrategy.LAST);
+        int[] bounds = ArrayUtils.partitionThreeWayParallel(parallel, 0, arr.length - 1, PivotStrategy.LAST);
+        assertArrayEquals(expected, bounds);
+        assertThreeWayPartitioned(parallel, 0, arr.length - 1, bounds);
+
+        // Stability: the smaller keys keep their original relative order
+        int pivot = arr[arr.length - 1];
+        int[] smaller = Arrays.stream(arr).filter(x -> x < pivot).toArray();
+        assertArrayEquals(smaller, Arrays.copyOfRange(parallel, 0, bounds[0]));
+    }
+
+    @Test
+    @DisplayName("partitionThreeWayParallel(): Should only touch the requested sub-range")
+    void testPartitionThreeWayParallelSubRange() {
+        int[] arr = new Random(13).ints(200_000, -1000, 1000).toArray();
+        int[] original = arr.clone();
+        int[] bounds = ArrayUtils.partitionThreeWayParallel(arr, 1000, 198_999, PivotStrategy.RANDOM);
+        assertThreeWayPartitioned(arr, 1000, 198_999, bounds);
+        assertArrayEquals(Arrays.copyOfRange(original, 0, 1000), Arrays.copyOfRange(arr, 0, 1000));
+        assertArrayEquals(Arrays.copyOfRange(original, 199_000, 200_000), Arrays.copyOfRange(arr, 199_000, 200_000));
+    }
+
+    // =========================================================================
+    //                      TESTS FOR select() / nthElement()
+    // =========================================================================
+
+    @Test
+    @DisplayName("select(): Should return the k-th smallest element")
+    void testSelectBasic() {
+        assertEquals(1, ArrayUtils.select(new int[]{5, 3, 1, 4, 2}, 0));
+        assertEquals(3, ArrayUtils.select(new int[]{5, 3, 1, 4, 2}, 2));
+        assertEquals(5, ArrayUtils.select(new int[]{5, 3, 1, 4, 2}, 4));
+    }
+
+    @Test
+    @DisplayName("select(): Should agree with sorting on random and duplicate-heavy arrays")
+    void testSelectMatchesSort() {
+        Random random = new Random(29);
+        for (int bound : new int[]{3, 1000, Integer.MAX_VALUE}) {
+            int[] arr = random.ints(5000, 0, bound).toArray();
+            int[] sorted = arr.clone();
+            Arrays.sort(sorted);
+            for (int k = 0; k < arr.length; k += 499) {
+                assertEquals(sorted[k], ArrayUtils.select(arr.clone(), k));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("select(): Should stay correct on adversarial (sorted, reversed, constant) inputs")
+    void testSelectAdversarial() {
+        int n = 10_000;
+        int[] ascending = new int[n];
+        int[] descending = new int[n];
+        int[] constant = new int[n];
+        for (int i = 0; i < n; i++) {
+            ascending[i] = i;
+            descending[i] = n - i;
+            constant[i] = 7;
+        }
+        assertEquals(n / 3, ArrayUtils.select(ascending, n / 3));
+        assertEquals(n / 3 + 1, ArrayUtils.select(descending, n / 3));
+        assertEquals(7, ArrayUtils.select(constant, n / 2));
+    }
+
+    @Test
+    @DisplayName("select(): Should throw exception for invalid input")
+    void testSelectInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.select(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.select(new int[]{}, 0));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.select(new int[]{1, 2}, 2));
+    }
+
+    @Test
+    @DisplayName("nthElement(): Should settle the k-th position of a sub-range and partition around it")
+    void testNthElementRange() {
+        int[] arr = new int[]{100, 9, 7, 8, 1, 3, 2, 6, -100};
+        ArrayUtils.nthElement(arr, 1, 7, 4);
+        assertEquals(100, arr[0]);
+        assertEquals(-100, arr[8]);
+        assertEquals(6, arr[4]);
+        for (int i = 1; i < 4; i++) {
+            assertTrue(arr[i] <= 6);
+        }
+        for (int i = 5; i <= 7; i++) {
+            assertTrue(arr[i] >= 6);
+        }
+    }
+
+    @Test
+    @DisplayName("nthElement(): Should throw exception when k is outside the range")
+    void testNthElementInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.nthElement(new int[]{1, 2, 3}, 1, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.nthElement(new int[]{1, 2, 3}, 0, 3, 1));
+    }
+
+    // =========================================================================
+    //                            TESTS FOR topK()
+    // =========================================================================
+
+    @Test
+    @DisplayName("topK(): Should return the k largest elements in descending order")
+    void testTopKSmall() {
+        int[] arr = new int[]{4, 9, 1, 7, 3, 9, 2, 8, 5, 6, 0, -1, 11, 10, 12, 13, 14};
+        assertArrayEquals(new int[]{14, 13}, ArrayUtils.topK(arr, 2));
+        assertArrayEquals(new int[]{4, 9, 1, 7, 3, 9, 2, 8, 5, 6, 0, -1, 11, 10, 12, 13, 14}, arr);
+    }
+
+    @Test
+    @DisplayName("topK(): Heap and selection paths should agree with sorting")
+    void testTopKMatchesSort() {
+        Random random = new Random(92);
+        int[] arr = random.ints(2000, -50, 50).toArray();
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[]{1, 10, 250, 1000, 2000}) {
+            int[] expected = new int[k];
+            for (int i = 0; i < k; i++) {
+                expected[i] = sorted[sorted.length - 1 - i];
+            }
+            assertArrayEquals(expected, ArrayUtils.topK(arr, k));
+        }
+    }
+
+    @Test
+    @DisplayName("topK(): Should handle k = 0, k above the length and invalid input")
+    void testTopKEdgeCases() {
+        assertArrayEquals(new int[]{}, ArrayUtils.topK(new int[]{1, 2}, 0));
+        assertArrayEquals(new int[]{3, 2, 1}, ArrayUtils.topK(new int[]{2, 3, 1}, 10));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.topK(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.topK(new int[]{1}, -1));
+    }
+
     // =========================================================================
     //                            TESTS FOR rotate()
     // =========================================================================
@@ -513,6 +1038,52 @@ public class ArrayUtilsTest {
         ArrayUtils.rotate(null, 5);
     }
 
+    // =========================================================================
+    //                     TESTS FOR rotate(arr, k, mode)
+    // =========================================================================
+
+    @Test
+    @DisplayName("rotate(mode): Every mode should match the three-reverse rotation")
+    void testRotateModesMatchReversal() {
+        Random random = new Random(34);
+        for (int n : new int[]{1, 2, 7, 12, 1000}) {
+            int[] original = random.ints(n).toArray();
+            for (int k : new int[]{0, 1, 3, 4, n / 2, n - 1, n, 2 * n + 5}) {
+                int[] expected = original.clone();
+                ArrayUtils.rotate(expected, k);
+                for (RotationMode mode : RotationMode.values()) {
+                    int[] actual = original.clone();
+                    ArrayUtils.rotate(actual, k, mode);
+                    assertArrayEquals(expected, actual, mode + " with n=" + n + ", k=" + k);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("rotate(mode): Parallel and block-swap modes should rotate large arrays")
+    void testRotateModesLarge() {
+        int n = 300_000;
+        int[] original = new Random(43).ints(n).toArray();
+        int[] expected = original.clone();
+        ArrayUtils.rotate(expected, 123_457);
+        for (RotationMode mode : new RotationMode[]{RotationMode.PARALLEL, RotationMode.BLOCK_SWAP, RotationMode.JUGGLING, RotationMode.AUTO}) {
+            int[] actual = original.clone();
+            ArrayUtils.rotate(actual, 123_457, mode);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("rotate(mode): Should ignore null arrays and negative k, and reject a null mode")
+    void testRotateModeEdgeCases() {
+        ArrayUtils.rotate(null, 3, RotationMode.AUTO);
+        int[] arr = new int[]{1, 2, 3};
+        ArrayUtils.rotate(arr, -1, RotationMode.JUGGLING);
+        assertArrayEquals(new int[]{1, 2, 3}, arr);
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.rotate(arr, 1, null));
+    }
+
     // =========================================================================
     //                        TESTS FOR hasIntersection()
     // =========================================================================
@@ -0,0 +1,107 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.ConcurrentUnionFind;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the ConcurrentUnionFind structure.
+ */
+public class ConcurrentUnionFindTest {
+
+    // =========================================================================
+    //                         TESTS FOR union() / find()
+    // =========================================================================
+
+    @Test
+    @DisplayName("union(): Should merge sets and report whether a merge happened")
+    void testUnion() {
+        ConcurrentUnionFind forest = new ConcurrentUnionFind(6);
+        assertEquals(6, forest.size());
+        assertTrue(forest.union(4, 2));
+        assertTrue(forest.union(5, 4));
+        assertFalse(forest.union(2, 5));
+        assertTrue(forest.union(1, 0));
+        assertFalse(forest.union(3, 3));
+    }
+
+    @Test
+    @DisplayName("find(): Should return the smallest element of the set")
+    void testFind() {
+        ConcurrentUnionFind forest = new ConcurrentUnionFind(6);
+        forest.union(4, 5);
+        forest.union(5, 2);
+        assertEquals(2, forest.find(4));
+        assertEquals(2, forest.find(5));
+        assertEquals(3, forest.find(3));
+        assertThrows(IllegalArgumentException.class, () -> forest.find(6));
+        assertThrows(IllegalArgumentException.class, () -> forest.union(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentUnionFind(-1));
+    }
+
+    // =========================================================================
+    //                      TESTS FOR connected() / labels()
+    // =========================================================================
+
+    @Test
+    @DisplayName("connected(): Should follow transitive unions")
+    void testConnected() {
+        ConcurrentUnionFind forest = new ConcurrentUnionFind(5);
+        forest.union(0, 1);
+        forest.union(3, 4);
+        assertTrue(forest.connected(1, 0));
+        assertFalse(forest.connected(1, 3));
+        forest.union(1, 4);
+        assertTrue(forest.connected(0, 3));
+        assertFalse(forest.connected(2, 0));
+    }
+
+    @Test
+    @DisplayName("labels(): Should label every element with its set's smallest element")
+    void testLabels() {
+        ConcurrentUnionFind forest = new ConcurrentUnionFind(6);
+        forest.union(5, 3);
+        forest.union(1, 5);
+        forest.union(4, 2);
+        assertArrayEquals(new int[]{0, 1, 2, 1, 2, 1}, forest.labels());
+    }
+
+    @Test
+    @DisplayName("Concurrency: Parallel unions should merge exactly n - 1 times into one set")
+    void testConcurrentUnions() {
+        int size = 200_000;
+        Random random = new Random(47);
+        // A random spanning tree plus as many redundant edges, shuffled
+        int[][] edges = new int[2 * (size - 1)][];
+        for (int v = 1; v < size; v++) {
+            edges[v - 1] = new int[]{v, random.nextInt(v)};
+            edges[size - 2 + v] = new int[]{random.nextInt(size), random.nextInt(size)};
+        }
+        for (int i = edges.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int[] tmp = edges[i];
+            edges[i] = edges[j];
+            edges[j] = tmp;
+        }
+
+        ConcurrentUnionFind forest = new ConcurrentUnionFind(size);
+        AtomicInteger merges = new AtomicInteger();
+        IntStream.range(0, edges.length).parallel().forEach(e -> {
+            if (forest.union(edges[e][0], edges[e][1])) {
+                merges.incrementAndGet();
+            }
+        });
+        assertEquals(size - 1, merges.get());
+        assertTrue(IntStream.of(forest.labels()).allMatch(label -> label == 0));
+    }
+}
@@ -0,0 +1,102 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.CsrGraph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the CsrGraph structure.
+ */
+public class CsrGraphTest {
+
+    // =========================================================================
+    //                           TESTS FOR fromEdges()
+    // =========================================================================
+
+    @Test
+    @DisplayName("fromEdges(): Should group edges by source and keep their insertion order")
+    void testFromEdges() {
+        CsrGraph graph = CsrGraph.fromEdges(4, new int[]{2, 0, 2, 0}, new int[]{3, 1, 0, 2}, new int[]{7, 1, 5, 2});
+        assertEquals(4, graph.numNodes());
+        assertEquals(4, graph.numEdges());
+        assertTrue(graph.isWeighted());
+        assertEquals(2, graph.degree(0));
+        assertEquals(0, graph.degree(1));
+        assertEquals(2, graph.degree(2));
+
+        assertEquals(1, graph.target(graph.edgeStart(0)));
+        assertEquals(2, graph.target(graph.edgeStart(0) + 1));
+        assertEquals(3, graph.target(graph.edgeStart(2)));
+        assertEquals(7, graph.weight(graph.edgeStart(2)));
+        assertEquals(0, graph.target(graph.edgeEnd(2) - 1));
+        assertEquals(5, graph.weight(graph.edgeEnd(2) - 1));
+    }
+
+    @Test
+    @DisplayName("fromEdges(): Should throw exception for invalid input")
+    void testFromEdgesInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.fromEdges(2, new int[]{0}, new int[]{2}));
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.fromEdges(2, new int[]{0, 1}, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.fromEdges(2, null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.fromEdges(2, new int[]{0}, new int[]{1}, new int[0]));
+    }
+
+    @Test
+    @DisplayName("weight(): Should throw for an unweighted graph")
+    void testWeightUnweighted() {
+        CsrGraph graph = CsrGraph.fromEdges(2, new int[]{0}, new int[]{1});
+        assertFalse(graph.isWeighted());
+        assertThrows(IllegalStateException.class, () -> graph.weight(0));
+    }
+
+    // =========================================================================
+    //               TESTS FOR fromAdjacency() / fromWeightedAdjacency()
+    // =========================================================================
+
+    @Test
+    @DisplayName("fromAdjacency(): Should convert the list form edge by edge")
+    void testFromAdjacency() {
+        List<List<Integer>> adj = new ArrayList<>();
+        adj.add(List.of(1, 2));
+        adj.add(List.of());
+        adj.add(List.of(0));
+        CsrGraph graph = CsrGraph.fromAdjacency(adj, 3);
+        assertEquals(3, graph.numEdges());
+        assertEquals(2, graph.target(graph.edgeStart(0) + 1));
+        assertEquals(0, graph.target(graph.edgeStart(2)));
+        assertEquals(graph.edgeStart(1), graph.edgeEnd(1));
+
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.fromAdjacency(adj, 4));
+        adj.set(1, List.of(5));
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.fromAdjacency(adj, 3));
+    }
+
+    @Test
+    @DisplayName("fromWeightedAdjacency(): Should carry over neighbor weights")
+    void testFromWeightedAdjacency() {
+        List<Map<Integer, Integer>> adj = new ArrayList<>();
+        Map<Integer, Integer> first = new LinkedHashMap<>();
+        first.put(1, 4);
+        first.put(2, 9);
+        adj.add(first);
+        adj.add(new HashMap<>());
+        adj.add(Map.of(1, 3));
+        CsrGraph graph = CsrGraph.fromWeightedAdjacency(adj, 3);
+        assertEquals(3, graph.numEdges());
+        assertEquals(4, graph.weight(graph.edgeStart(0)));
+        assertEquals(9, graph.weight(graph.edgeStart(0) + 1));
+        assertEquals(3, graph.weight(graph.edgeStart(2)));
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.fromWeightedAdjacency(null, 0));
+    }
+}
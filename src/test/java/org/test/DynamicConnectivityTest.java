@@ -0,0 +1,173 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.ConnectedComponents;
+import org.utils.DynamicConnectivity;
+import org.utils.GraphUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the DynamicConnectivity structure.
+ */
+public class DynamicConnectivityTest {
+
+    // =========================================================================
+    //                      TESTS FOR addEdge() / addEdges()
+    // =========================================================================
+
+    @Test
+    @DisplayName("addEdge(): Should report cycles and keep the component count")
+    void testAddEdge() {
+        DynamicConnectivity graph = new DynamicConnectivity(4);
+        assertEquals(4, graph.componentCount());
+        assertFalse(graph.addEdge(0, 1));
+        assertFalse(graph.addEdge(2, 1));
+        assertTrue(graph.addEdge(0, 2));
+        assertTrue(graph.addEdge(3, 3));
+        assertEquals(2, graph.componentCount());
+        assertEquals(4, graph.numEdges());
+    }
+
+    @Test
+    @DisplayName("addEdges(): Should flag cycles relative to earlier edges of the same batch")
+    void testAddEdgesBatch() {
+        DynamicConnectivity graph = new DynamicConnectivity(5);
+        boolean[] cycles = graph.addEdges(new int[]{0, 1, 2, 3, 1}, new int[]{1, 2, 0, 4, 0});
+        assertArrayEquals(new boolean[]{false, false, true, false, true}, cycles);
+        assertEquals(2, graph.componentCount());
+    }
+
+    @Test
+    @DisplayName("addEdges(): Should reject an invalid batch without inserting any edge")
+    void testAddEdgesInvalid() {
+        DynamicConnectivity graph = new DynamicConnectivity(3);
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdges(new int[]{0, 1}, new int[]{1, 3}));
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdges(new int[]{0}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdges(null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new DynamicConnectivity(-1));
+        assertFalse(graph.connected(0, 1));
+        assertEquals(3, graph.componentCount());
+        assertEquals(0, graph.numEdges());
+    }
+
+    @Test
+    @DisplayName("addEdges(): Should agree with recomputing components and cycles from scratch")
+    void testAddEdgesMatchesRecomputation() {
+        Random random = new Random(48);
+        int numNodes = 300;
+        List<List<Integer>> adj = new ArrayList<>();
+        for (int i = 0; i < numNodes; i++) {
+            adj.add(new ArrayList<>());
+        }
+        DynamicConnectivity graph = new DynamicConnectivity(numNodes);
+        boolean cyclic = false;
+        for (int batch = 0; batch < 30; batch++) {
+            int[] sources = random.ints(10, 0, numNodes).toArray();
+            int[] targets = random.ints(10, 0, numNodes).toArray();
+            for (boolean cycle : graph.addEdges(sources, targets)) {
+                cyclic |= cycle;
+            }
+            for (int i = 0; i < sources.length; i++) {
+                adj.get(sources[i]).add(targets[i]);
+                adj.get(targets[i]).add(sources[i]);
+            }
+            assertEquals(GraphUtils.countConnectedComponents(adj, numNodes), graph.componentCount());
+            assertEquals(GraphUtils.containsCycleUndirected(adj, numNodes), cyclic);
+        }
+    }
+
+    // =========================================================================
+    //                      TESTS FOR connected() / snapshot()
+    // =========================================================================
+
+    @Test
+    @DisplayName("connected(): Should follow paths through inserted edges")
+    void testConnected() {
+        DynamicConnectivity graph = new DynamicConnectivity(5);
+        graph.addEdges(new int[]{0, 3}, new int[]{1, 4});
+        assertTrue(graph.connected(1, 0));
+        assertFalse(graph.connected(1, 4));
+        graph.addEdge(1, 3);
+        assertTrue(graph.connected(0, 4));
+        assertFalse(graph.connected(2, 4));
+        assertThrows(IllegalArgumentException.class, () -> graph.connected(0, 5));
+    }
+
+    @Test
+    @DisplayName("snapshot(): Should not change after later inserts")
+    void testSnapshot() {
+        DynamicConnectivity graph = new DynamicConnectivity(4);
+        graph.addEdge(3, 1);
+        ConnectedComponents before = graph.snapshot();
+        graph.addEdge(0, 3);
+        assertEquals(3, before.count());
+        assertArrayEquals(new int[]{0, 1, 2, 1}, before.labels());
+        assertArrayEquals(new int[]{0, 0, 2, 0}, graph.snapshot().labels());
+        assertEquals(2, graph.snapshot().count());
+    }
+
+    @Test
+    @DisplayName("connected(): Should keep smallest-node labels when a path is inserted back to front")
+    void testConnectedReversedChain() {
+        int numNodes = 200_000;
+        DynamicConnectivity graph = new DynamicConnectivity(numNodes);
+        int[] sources = new int[numNodes - 1];
+        int[] targets = new int[numNodes - 1];
+        for (int i = 0; i < numNodes - 1; i++) {
+            sources[i] = numNodes - 2 - i;
+            targets[i] = numNodes - 1 - i;
+        }
+        graph.addEdges(sources, targets);
+        assertTrue(graph.connected(numNodes - 1, 0));
+        assertEquals(1, graph.componentCount());
+        ConnectedComponents snapshot = graph.snapshot();
+        for (int v = 0; v < numNodes; v++) {
+            assertEquals(0, snapshot.label(v));
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrency: Readers should only ever see whole batches")
+    void testConcurrentReaders() throws InterruptedException {
+        int numNodes = 20_000;
+        DynamicConnectivity graph = new DynamicConnectivity(numNodes);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean torn = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                ConnectedComponents snapshot = graph.snapshot();
+                // Every batch links a whole block of 100 consecutive nodes into a path
+                for (int block = 0; block < numNodes; block += 100) {
+                    if (snapshot.connected(block, block + 99) != snapshot.connected(block, block + 1)) {
+                        torn.set(true);
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int block = 0; block < numNodes; block += 100) {
+            int[] sources = new int[99];
+            int[] targets = new int[99];
+            for (int i = 0; i < 99; i++) {
+                sources[i] = block + i;
+                targets[i] = block + i + 1;
+            }
+            graph.addEdges(sources, targets);
+        }
+        done.set(true);
+        reader.join();
+        assertFalse(torn.get());
+        assertEquals(numNodes / 100, graph.componentCount());
+    }
+}
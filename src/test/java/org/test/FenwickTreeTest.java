@@ -0,0 +1,115 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.FenwickTree;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit 5 test class for the FenwickTree structure.
+ */
+public class FenwickTreeTest {
+
+    // =========================================================================
+    //                    TESTS FOR rangeSum() / prefixSum()
+    // =========================================================================
+
+    @Test
+    @DisplayName("rangeSum(): Should answer range sums on a small array")
+    void testRangeSumSmall() {
+        FenwickTree tree = new FenwickTree(new int[]{3, -1, 4, 1, 5, 9, 2});
+        assertEquals(23, tree.rangeSum(0, 6));
+        assertEquals(4, tree.rangeSum(2, 2));
+        assertEquals(15, tree.rangeSum(3, 5));
+        assertEquals(6, tree.prefixSum(2));
+        assertEquals(0, tree.prefixSum(-1));
+    }
+
+    @Test
+    @DisplayName("rangeSum(): Should not overflow on large values")
+    void testRangeSumNoOverflow() {
+        FenwickTree tree = new FenwickTree(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE});
+        assertEquals(3L * Integer.MAX_VALUE, tree.rangeSum(0, 2));
+    }
+
+    @Test
+    @DisplayName("rangeSum(): Should throw exception for invalid ranges or null array")
+    void testRangeSumInvalid() {
+        FenwickTree tree = new FenwickTree(new int[]{1, 2});
+        assertThrows(IllegalArgumentException.class, () -> tree.rangeSum(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> tree.rangeSum(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> tree.prefixSum(-2));
+        assertThrows(IllegalArgumentException.class, () -> new FenwickTree(null));
+    }
+
+    // =========================================================================
+    //                        TESTS FOR add() / set() / get()
+    // =========================================================================
+
+    @Test
+    @DisplayName("add()/set(): Should keep sums consistent with a plain array under random updates")
+    void testUpdatesMatchNaiveSums() {
+        Random random = new Random(40);
+        int[] reference = random.ints(200, -50, 50).toArray();
+        FenwickTree tree = new FenwickTree(reference);
+        for (int step = 0; step < 2_000; step++) {
+            int index = random.nextInt(reference.length);
+            if (random.nextBoolean()) {
+                int delta = random.nextInt(21) - 10;
+                tree.add(index, delta);
+                reference[index] += delta;
+            } else {
+                int value = random.nextInt(1000) - 500;
+                tree.set(index, value);
+                reference[index] = value;
+            }
+            int from = random.nextInt(reference.length);
+            int to = from + random.nextInt(reference.length - from);
+            long expected = 0;
+            for (int i = from; i <= to; i++) {
+                expected += reference[i];
+            }
+            assertEquals(expected, tree.rangeSum(from, to));
+            assertEquals(reference[index], tree.get(index));
+        }
+    }
+
+    @Test
+    @DisplayName("add()/set()/get(): Should throw exception for invalid indices and value overflow")
+    void testUpdatesInvalid() {
+        FenwickTree tree = new FenwickTree(new int[]{Integer.MAX_VALUE});
+        assertThrows(IllegalArgumentException.class, () -> tree.add(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> tree.set(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> tree.get(5));
+        assertThrows(ArithmeticException.class, () -> tree.add(0, 1));
+        assertEquals(Integer.MAX_VALUE, tree.rangeSum(0, 0));
+    }
+
+    // =========================================================================
+    //                         TESTS FOR batched queries
+    // =========================================================================
+
+    @Test
+    @DisplayName("rangeSum(int[], int[]): Should answer a large batch like single queries")
+    void testBatchRangeSum() {
+        Random random = new Random(140);
+        FenwickTree tree = new FenwickTree(random.ints(10_000, -1000, 1000).toArray());
+        int[] from = new int[5_000];
+        int[] to = new int[5_000];
+        for (int q = 0; q < from.length; q++) {
+            from[q] = random.nextInt(5_000);
+            to[q] = from[q] + random.nextInt(5_000);
+        }
+        long[] sums = tree.rangeSum(from, to);
+        for (int q = 0; q < from.length; q++) {
+            assertEquals(tree.rangeSum(from[q], to[q]), sums[q]);
+        }
+        assertArrayEquals(new long[0], tree.rangeSum(new int[0], new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> tree.rangeSum(new int[1], null));
+    }
+}
@@ -2,7 +2,11 @@ package org.test;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.utils.ConnectedComponents;
+import org.utils.CsrGraph;
 import org.utils.GraphUtils;
+import org.utils.ShortestPathTree;
+import org.utils.TopologicalLevels;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -10,10 +14,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -181,6 +189,18 @@ public class GraphUtilsTest {
         assertFalse(GraphUtils.containsCycleUndirected(adj, numNodes));
     }
 
+    @Test
+    @DisplayName("Contains Cycle: Should handle a 200K node path without stack overflow")
+    void testContainsCycleUndirectedDeepPath() {
+        int numNodes = 200_000;
+        List<List<Integer>> adj = createPathGraph(numNodes);
+        assertFalse(GraphUtils.containsCycleUndirected(adj, numNodes));
+        // Closing the path into a ring creates a cycle found at the deepest point
+        adj.get(0).add(numNodes - 1);
+        adj.get(numNodes - 1).add(0);
+        assertTrue(GraphUtils.containsCycleUndirected(adj, numNodes));
+    }
+
     // =========================================================================
     //                           TESTS FOR maxDegree()
     // =========================================================================
@@ -282,6 +302,17 @@ public class GraphUtilsTest {
         assertFalse(GraphUtils.isTree(adj, numNodes));
     }
 
+    @Test
+    @DisplayName("Is Tree: Should handle a 200K node path without stack overflow")
+    void testIsTreeDeepPath() {
+        int numNodes = 200_000;
+        List<List<Integer>> adj = createPathGraph(numNodes);
+        assertTrue(GraphUtils.isTree(adj, numNodes));
+        adj.get(numNodes - 1).add(numNodes - 3);
+        adj.get(numNodes - 3).add(numNodes - 1);
+        assertFalse(GraphUtils.isTree(adj, numNodes));
+    }
+
     // =========================================================================
     //                  TESTS FOR countConnectedComponents()
     // =========================================================================
@@ -314,6 +345,18 @@ public class GraphUtilsTest {
         assertEquals(1, GraphUtils.countConnectedComponents(adj, numNodes));
     }
 
+    @Test
+    @DisplayName("Connected Components: Should handle 200K node paths without stack overflow")
+    void testCountConnectedComponentsDeepPath() {
+        int numNodes = 200_000;
+        List<List<Integer>> adj = createPathGraph(numNodes);
+        assertEquals(1, GraphUtils.countConnectedComponents(adj, numNodes));
+        // Split the path into two halves
+        adj.get(numNodes / 2).remove(Integer.valueOf(numNodes / 2 - 1));
+        adj.get(numNodes / 2 - 1).remove(Integer.valueOf(numNodes / 2));
+        assertEquals(2, GraphUtils.countConnectedComponents(adj, numNodes));
+    }
+
     // =========================================================================
     //                 TESTS FOR shortestPathDijkstra (Weighted)
     // =========================================================================
@@ -438,4 +481,507 @@ public class GraphUtilsTest {
         int[] expected = {0, 2, 0};
         assertArrayEquals(expected, GraphUtils.computeIndegrees(adj, numNodes));
     }
-}
\ No newline at end of file
+
+    // =========================================================================
+    //                        TESTS FOR CsrGraph overloads
+    // =========================================================================
+
+    /**
+     * Helper to create a random graph; undirected graphs get every edge in both directions.
+     */
+    private List<List<Integer>> createRandomGraph(Random random, int numNodes, int numEdges, boolean undirected) {
+        List<List<Integer>> adj = createGraph(numNodes, new int[0][]);
+        for (int e = 0; e < numEdges; e++) {
+            int u = random.nextInt(numNodes);
+            int v = random.nextInt(numNodes);
+            adj.get(u).add(v);
+            if (undirected) {
+                adj.get(v).add(u);
+            }
+        }
+        return adj;
+    }
+
+    /**
+     * Helper to create an undirected path 0 - 1 - ... - (numNodes - 1).
+     */
+    private List<List<Integer>> createPathGraph(int numNodes) {
+        List<List<Integer>> adj = createGraph(numNodes, new int[0][]);
+        for (int i = 0; i + 1 < numNodes; i++) {
+            adj.get(i).add(i + 1);
+            adj.get(i + 1).add(i);
+        }
+        return adj;
+    }
+
+    @Test
+    @DisplayName("CSR: BFS, DFS, degrees and components should match the list-based versions")
+    void testCsrOverloadsMatchListVersions() {
+        Random random = new Random(41);
+        for (int round = 0; round < 20; round++) {
+            int numNodes = 1 + random.nextInt(60);
+            List<List<Integer>> adj = createRandomGraph(random, numNodes, random.nextInt(80), round % 2 == 0);
+            CsrGraph graph = CsrGraph.fromAdjacency(adj, numNodes);
+            int start = random.nextInt(numNodes);
+
+            assertArrayEquals(GraphUtils.shortestPathBFS(adj, numNodes, start), GraphUtils.shortestPathBFS(graph, start));
+            assertArrayEquals(GraphUtils.traverseDFS(adj, numNodes, start).stream().mapToInt(Integer::intValue).toArray(),
+                    GraphUtils.traverseDFS(graph, start));
+            assertEquals(GraphUtils.maxDegree(adj, numNodes), GraphUtils.maxDegree(graph));
+            assertArrayEquals(GraphUtils.computeIndegrees(adj, numNodes), GraphUtils.computeIndegrees(graph));
+            if (round % 2 == 0) {
+                assertEquals(GraphUtils.countConnectedComponents(adj, numNodes), GraphUtils.countConnectedComponents(graph));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("CSR: Topological sort should match Kahn on the list form, including cycles")
+    void testCsrTopologicalSort() {
+        int[][] dagEdges = {{5, 2}, {5, 0}, {4, 0}, {4, 1}, {2, 3}, {3, 1}};
+        List<List<Integer>> dag = createGraph(6, dagEdges);
+        int[] expected = GraphUtils.topologicalSortKahn(dag, 6).stream().mapToInt(Integer::intValue).toArray();
+        assertArrayEquals(expected, GraphUtils.topologicalSortKahn(CsrGraph.fromAdjacency(dag, 6)));
+
+        List<List<Integer>> cyclic = createGraph(3, new int[][]{{0, 1}, {1, 2}, {2, 0}});
+        assertEquals(0, GraphUtils.topologicalSortKahn(CsrGraph.fromAdjacency(cyclic, 3)).length);
+    }
+
+    @Test
+    @DisplayName("CSR: Dijkstra should match the map-based version")
+    void testCsrDijkstra() {
+        int[][] edges = {{0, 1, 10}, {0, 2, 5}, {1, 3, 2}, {2, 1, 3}, {2, 4, 2}, {3, 4, 4}};
+        List<Map<Integer, Integer>> adj = createWeightedGraph(6, edges);
+        CsrGraph graph = CsrGraph.fromWeightedAdjacency(adj, 6);
+        assertArrayEquals(GraphUtils.shortestPathDijkstra(adj, 6, 0), GraphUtils.shortestPathDijkstra(graph, 0));
+        assertEquals(Integer.MAX_VALUE, GraphUtils.shortestPathDijkstra(graph, 0)[5]);
+    }
+
+    @Test
+    @DisplayName("CSR: Overloads should validate the graph and start node")
+    void testCsrOverloadsInvalid() {
+        CsrGraph graph = CsrGraph.fromEdges(2, new int[]{0}, new int[]{1});
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathBFS(graph, 2));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathDijkstra(graph, 0)); // Unweighted
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.computeIndegrees((CsrGraph) null));
+        assertEquals(0, GraphUtils.traverseDFS(graph, -1).length);
+        assertEquals(-1, GraphUtils.maxDegree((CsrGraph) null));
+    }
+
+    // =========================================================================
+    //                       TESTS FOR shortestPathTree()
+    // =========================================================================
+
+    @Test
+    @DisplayName("Shortest path tree: Should match Dijkstra distances and reconstruct paths")
+    void testShortestPathTreeBasic() {
+        int[][] edges = {{0, 1, 10}, {0, 2, 5}, {1, 3, 2}, {2, 1, 3}, {2, 4, 2}, {3, 4, 4}};
+        CsrGraph graph = CsrGraph.fromWeightedAdjacency(createWeightedGraph(6, edges), 6);
+        ShortestPathTree tree = GraphUtils.shortestPathTree(graph, 0);
+
+        assertArrayEquals(new long[]{0, 8, 5, 10, 7, ShortestPathTree.UNREACHABLE}, tree.distances());
+        assertArrayEquals(new int[]{0, 2, 1, 3}, tree.pathTo(3));
+        assertArrayEquals(new int[]{0}, tree.pathTo(0));
+        assertArrayEquals(new int[0], tree.pathTo(5));
+        assertEquals(2, tree.predecessor(1));
+        assertEquals(-1, tree.predecessor(0));
+        assertFalse(tree.isReachable(5));
+        assertEquals(0, tree.source());
+    }
+
+    @Test
+    @DisplayName("Shortest path tree: Should agree with the map-based Dijkstra on random graphs")
+    void testShortestPathTreeMatchesDijkstra() {
+        Random random = new Random(43);
+        for (int round = 0; round < 20; round++) {
+            int numNodes = 1 + random.nextInt(80);
+            int[][] edges = new int[random.nextInt(300)][];
+            for (int e = 0; e < edges.length; e++) {
+                edges[e] = new int[]{random.nextInt(numNodes), random.nextInt(numNodes), random.nextInt(50)};
+            }
+            List<Map<Integer, Integer>> adj = createWeightedGraph(numNodes, edges);
+            int[] expected = GraphUtils.shortestPathDijkstra(adj, numNodes, 0);
+            long[] actual = GraphUtils.shortestPathTree(CsrGraph.fromWeightedAdjacency(adj, numNodes), 0).distances();
+            for (int v = 0; v < numNodes; v++) {
+                assertEquals(expected[v] == Integer.MAX_VALUE ? ShortestPathTree.UNREACHABLE : expected[v], actual[v]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Shortest path tree: Should not overflow on paths longer than Integer.MAX_VALUE")
+    void testShortestPathTreeLongDistances() {
+        CsrGraph graph = CsrGraph.fromEdges(4, new int[]{0, 1, 2}, new int[]{1, 2, 3},
+                new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE});
+        assertEquals(3L * Integer.MAX_VALUE, GraphUtils.shortestPathTree(graph, 0).distance(3));
+    }
+
+    @Test
+    @DisplayName("Shortest path tree: Should stop early at the target with its exact distance")
+    void testShortestPathTreeEarlyTarget() {
+        // 0 -> 1 (1) -> 2 (1), and a far away branch 0 -> 3 (100) -> 4 (1)
+        CsrGraph graph = CsrGraph.fromEdges(5, new int[]{0, 1, 0, 3}, new int[]{1, 2, 3, 4}, new int[]{1, 1, 100, 1});
+        ShortestPathTree tree = GraphUtils.shortestPathTree(graph, 0, 2);
+        assertEquals(2, tree.distance(2));
+        assertArrayEquals(new int[]{0, 1, 2}, tree.pathTo(2));
+        assertFalse(tree.isReachable(4)); // Never explored
+    }
+
+    @Test
+    @DisplayName("Shortest path tree: Should reject unweighted graphs, negative weights and bad nodes")
+    void testShortestPathTreeInvalid() {
+        CsrGraph unweighted = CsrGraph.fromEdges(2, new int[]{0}, new int[]{1});
+        CsrGraph negative = CsrGraph.fromEdges(2, new int[]{0}, new int[]{1}, new int[]{-1});
+        CsrGraph valid = CsrGraph.fromEdges(2, new int[]{0}, new int[]{1}, new int[]{1});
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathTree(unweighted, 0));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathTree(negative, 0));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathTree(valid, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathTree(valid, -1));
+    }
+
+    // =========================================================================
+    //                  TESTS FOR shortestPathDeltaStepping()
+    // =========================================================================
+
+    /**
+     * Helper to create a random weighted CSR graph.
+     */
+    private CsrGraph createRandomWeightedCsr(Random random, int numNodes, int numEdges, int maxWeight) {
+        int[] sources = new int[numEdges];
+        int[] targets = new int[numEdges];
+        int[] weights = new int[numEdges];
+        for (int e = 0; e < numEdges; e++) {
+            sources[e] = random.nextInt(numNodes);
+            targets[e] = random.nextInt(numNodes);
+            weights[e] = random.nextInt(maxWeight + 1);
+        }
+        return CsrGraph.fromEdges(numNodes, sources, targets, weights);
+    }
+
+    @Test
+    @DisplayName("Delta-stepping: Should match Dijkstra for automatic and extreme deltas")
+    void testDeltaSteppingMatchesDijkstra() {
+        Random random = new Random(44);
+        for (int round = 0; round < 10; round++) {
+            CsrGraph graph = createRandomWeightedCsr(random, 2_000, 10_000, round % 2 == 0 ? 10 : 100_000);
+            long[] expected = GraphUtils.shortestPathTree(graph, 0).distances();
+            assertArrayEquals(expected, GraphUtils.shortestPathDeltaStepping(graph, 0));
+            assertArrayEquals(expected, GraphUtils.shortestPathDeltaStepping(graph, 0, 1, ForkJoinPool.commonPool()));
+            assertArrayEquals(expected, GraphUtils.shortestPathDeltaStepping(graph, 0, Long.MAX_VALUE / 4, ForkJoinPool.commonPool()));
+        }
+    }
+
+    @Test
+    @DisplayName("Delta-stepping: Should give identical results on a dedicated multi-threaded pool")
+    void testDeltaSteppingCustomPool() {
+        CsrGraph graph = createRandomWeightedCsr(new Random(45), 50_000, 400_000, 1_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(GraphUtils.shortestPathTree(graph, 3).distances(),
+                    GraphUtils.shortestPathDeltaStepping(graph, 3, 50, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Delta-stepping: Should handle zero weights, unreachable nodes and invalid arguments")
+    void testDeltaSteppingEdgeCases() {
+        CsrGraph graph = CsrGraph.fromEdges(4, new int[]{0, 1}, new int[]{1, 2}, new int[]{0, 7});
+        assertArrayEquals(new long[]{0, 0, 7, ShortestPathTree.UNREACHABLE}, GraphUtils.shortestPathDeltaStepping(graph, 0));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathDeltaStepping(graph, 0, 0, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathDeltaStepping(graph, 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.shortestPathDeltaStepping(graph, 4));
+    }
+
+    // =========================================================================
+    //                    TESTS FOR shortestPathBFSParallel()
+    // =========================================================================
+
+    @Test
+    @DisplayName("Parallel BFS: Should match sequential BFS on an R-MAT graph (bottom-up steps)")
+    void testShortestPathBFSParallelRmat() {
+        CsrGraph graph = GraphUtils.generateRmatGraph(17, 8, 42);
+        for (int start : new int[]{0, 1, 12345}) {
+            assertArrayEquals(GraphUtils.shortestPathBFS(graph, start), GraphUtils.shortestPathBFSParallel(graph, start));
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel BFS: Should match sequential BFS on a large directed graph")
+    void testShortestPathBFSParallelDirected() {
+        Random random = new Random(42);
+        int numNodes = 100_000;
+        int[] sources = new int[600_000];
+        int[] targets = new int[sources.length];
+        for (int e = 0; e < sources.length; e++) {
+            sources[e] = random.nextInt(numNodes);
+            targets[e] = random.nextInt(numNodes);
+        }
+        CsrGraph graph = CsrGraph.fromEdges(numNodes, sources, targets);
+        assertArrayEquals(GraphUtils.shortestPathBFS(graph, 7), GraphUtils.shortestPathBFSParallel(graph, 7));
+    }
+
+    @Test
+    @DisplayName("Parallel BFS: Should handle a long path graph with tiny frontiers")
+    void testShortestPathBFSParallelPath() {
+        int numNodes = 70_000;
+        int[] sources = new int[numNodes - 1];
+        int[] targets = new int[numNodes - 1];
+        for (int i = 0; i < numNodes - 1; i++) {
+            sources[i] = i;
+            targets[i] = i + 1;
+        }
+        int[] dist = GraphUtils.shortestPathBFSParallel(CsrGraph.fromEdges(numNodes, sources, targets), 1);
+        assertEquals(-1, dist[0]);
+        assertEquals(numNodes - 2, dist[numNodes - 1]);
+    }
+
+    @Test
+    @DisplayName("Parallel BFS: Should handle a long path hanging off a dense head")
+    void testShortestPathBFSParallelDenseHeadLongTail() {
+        // Nodes 0 .. 1999 form a dense circulant head; nodes 1999 .. 79999 form a path
+        int head = 2_000;
+        int numNodes = 80_000;
+        int degree = 100;
+        int[] sources = new int[2 * (head * degree + numNodes - head)];
+        int[] targets = new int[sources.length];
+        int e = 0;
+        for (int u = 0; u < head; u++) {
+            for (int k = 1; k <= degree; k++) {
+                int v = (u + k) % head;
+                sources[e] = u;
+                targets[e++] = v;
+                sources[e] = v;
+                targets[e++] = u;
+            }
+        }
+        for (int u = head - 1; u < numNodes - 1; u++) {
+            sources[e] = u;
+            targets[e++] = u + 1;
+            sources[e] = u + 1;
+            targets[e++] = u;
+        }
+        CsrGraph graph = CsrGraph.fromEdges(numNodes, Arrays.copyOf(sources, e), Arrays.copyOf(targets, e));
+        assertArrayEquals(GraphUtils.shortestPathBFS(graph, 0), GraphUtils.shortestPathBFSParallel(graph, 0));
+        assertArrayEquals(GraphUtils.shortestPathBFS(graph, numNodes - 1), GraphUtils.shortestPathBFSParallel(graph, numNodes - 1));
+    }
+
+    @Test
+    @DisplayName("R-MAT: Should generate a symmetric graph without self loops")
+    void testGenerateRmatGraph() {
+        CsrGraph graph = GraphUtils.generateRmatGraph(10, 4, 1);
+        assertEquals(1024, graph.numNodes());
+        assertEquals(0, graph.numEdges() % 2);
+        assertArrayEquals(GraphUtils.computeIndegrees(graph), IntStream.range(0, 1024).map(graph::degree).toArray());
+        for (int u = 0; u < graph.numNodes(); u++) {
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                assertTrue(graph.target(e) != u);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.generateRmatGraph(31, 1, 0));
+    }
+
+    // =========================================================================
+    //                  TESTS FOR connectedComponentsAfforest()
+    // =========================================================================
+
+    @Test
+    @DisplayName("Afforest: Should label small components with their smallest node")
+    void testConnectedComponentsAfforest() {
+        // Components {0, 1, 4}, {2, 3} and {5}
+        int[][] edges = {{0, 4}, {4, 0}, {4, 1}, {1, 4}, {3, 2}, {2, 3}};
+        ConnectedComponents components = GraphUtils.connectedComponentsAfforest(CsrGraph.fromAdjacency(createGraph(6, edges), 6));
+        assertEquals(3, components.count());
+        assertArrayEquals(new int[]{0, 0, 2, 2, 0, 5}, components.labels());
+        assertEquals(2, components.label(3));
+        assertTrue(components.connected(1, 0));
+        assertFalse(components.connected(1, 2));
+    }
+
+    @Test
+    @DisplayName("Afforest: Should match DFS component counts and BFS reachability on random graphs")
+    void testConnectedComponentsAfforestRandom() {
+        Random random = new Random(47);
+        for (int trial = 0; trial < 5; trial++) {
+            int numNodes = 2_000 + random.nextInt(100_000);
+            CsrGraph graph = CsrGraph.fromAdjacency(createRandomGraph(random, numNodes, numNodes / 2 + random.nextInt(numNodes), true), numNodes);
+            ConnectedComponents components = GraphUtils.connectedComponentsAfforest(graph);
+            assertEquals(GraphUtils.countConnectedComponents(graph), components.count());
+
+            int source = random.nextInt(numNodes);
+            int[] dist = GraphUtils.shortestPathBFS(graph, source);
+            for (int v = 0; v < numNodes; v++) {
+                assertEquals(dist[v] >= 0, components.connected(source, v));
+                assertTrue(components.label(v) <= v);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Afforest: Should find the giant component of an R-MAT graph and handle empty graphs")
+    void testConnectedComponentsAfforestRmat() {
+        CsrGraph graph = GraphUtils.generateRmatGraph(17, 8, 47);
+        assertEquals(GraphUtils.countConnectedComponents(graph), GraphUtils.connectedComponentsAfforest(graph).count());
+        assertEquals(0, GraphUtils.connectedComponentsAfforest(CsrGraph.fromEdges(0, new int[0], new int[0])).count());
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.connectedComponentsAfforest(null));
+    }
+
+    // =========================================================================
+    //                      TESTS FOR topologicalLevels()
+    // =========================================================================
+
+    @Test
+    @DisplayName("Topological Levels: Should assign longest-path levels in a small DAG")
+    void testTopologicalLevels() {
+        // 5->2, 5->0, 4->0, 4->1, 2->3, 3->1
+        int[][] edges = {{5, 2}, {5, 0}, {4, 0}, {4, 1}, {2, 3}, {3, 1}};
+        TopologicalLevels result = GraphUtils.topologicalLevels(CsrGraph.fromAdjacency(createGraph(6, edges), 6));
+        assertTrue(result.isAcyclic());
+        assertArrayEquals(new int[]{1, 3, 1, 2, 0, 0}, result.levels());
+        assertEquals(4, result.depth());
+        assertEquals(3, result.level(1));
+        assertArrayEquals(new int[]{4, 5, 2, 0, 3, 1}, result.order());
+        assertEquals(0, result.cycle().length);
+    }
+
+    @Test
+    @DisplayName("Topological Levels: Should match a sequential longest-path computation on a large random DAG")
+    void testTopologicalLevelsRandomDag() {
+        Random random = new Random(49);
+        int numNodes = 60_000;
+        int[] sources = new int[300_000];
+        int[] targets = new int[sources.length];
+        for (int e = 0; e < sources.length; e++) {
+            // Edges from lower to higher index keep the graph acyclic; short edges make it deep
+            int u = random.nextInt(numNodes - 1);
+            sources[e] = u;
+            targets[e] = Math.min(numNodes - 1, u + 1 + random.nextInt(e % 2 == 0 ? 3 : 5_000));
+        }
+        CsrGraph graph = CsrGraph.fromEdges(numNodes, sources, targets);
+        TopologicalLevels result = GraphUtils.topologicalLevels(graph);
+
+        int[] expected = new int[numNodes];
+        for (int u = 0; u < numNodes; u++) {
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                expected[graph.target(e)] = Math.max(expected[graph.target(e)], expected[u] + 1);
+            }
+        }
+        assertArrayEquals(expected, result.levels());
+        assertEquals(IntStream.of(expected).max().getAsInt() + 1, result.depth());
+        int[] order = result.order();
+        for (int i = 1; i < numNodes; i++) {
+            assertTrue(expected[order[i - 1]] <= expected[order[i]]);
+        }
+    }
+
+    @Test
+    @DisplayName("Topological Levels: Should report an actual cycle of a cyclic graph")
+    void testTopologicalLevelsCycle() {
+        // 0 -> 1 -> 2 -> 3 -> 1 (cycle 1 -> 2 -> 3) plus the tail 3 -> 4
+        int[][] edges = {{0, 1}, {1, 2}, {2, 3}, {3, 1}, {3, 4}};
+        TopologicalLevels result = GraphUtils.topologicalLevels(CsrGraph.fromAdjacency(createGraph(5, edges), 5));
+        assertFalse(result.isAcyclic());
+        assertEquals(0, result.order().length);
+        assertEquals(-1, result.level(0));
+        assertArrayEquals(new int[]{2, 3, 1}, result.cycle());
+
+        // 0 -> 1 with a self loop on 1
+        CsrGraph selfLoop = CsrGraph.fromAdjacency(createGraph(2, new int[][]{{0, 1}, {1, 1}}), 2);
+        assertArrayEquals(new int[]{1}, GraphUtils.topologicalLevels(selfLoop).cycle());
+    }
+
+    @Test
+    @DisplayName("Topological Levels: Should find a cycle in a large random graph")
+    void testTopologicalLevelsRandomCycle() {
+        Random random = new Random(49);
+        int numNodes = 50_000;
+        CsrGraph graph = CsrGraph.fromAdjacency(createRandomGraph(random, numNodes, 2 * numNodes, false), numNodes);
+        int[] cycle = GraphUtils.topologicalLevels(graph).cycle();
+        assertTrue(cycle.length > 0);
+        for (int i = 0; i < cycle.length; i++) {
+            int u = cycle[i];
+            int v = cycle[(i + 1) % cycle.length];
+            assertTrue(IntStream.range(graph.edgeStart(u), graph.edgeEnd(u)).anyMatch(e -> graph.target(e) == v));
+        }
+        assertEquals(cycle.length, IntStream.of(cycle).distinct().count());
+    }
+
+    // =========================================================================
+    //                       TESTS FOR multiSourceBFS()
+    // =========================================================================
+
+    @Test
+    @DisplayName("Multi-source BFS: Should match single-source BFS for every source")
+    void testMultiSourceBFSMatchesBFS() {
+        Random random = new Random(45);
+        CsrGraph graph = CsrGraph.fromAdjacency(createRandomGraph(random, 300, 700, false), 300);
+        // 150 sources span three batches, including a partial one and duplicates
+        int[] sources = random.ints(150, 0, 300).toArray();
+        sources[1] = sources[0];
+        int[][] dist = GraphUtils.multiSourceBFS(graph, sources);
+        assertEquals(sources.length, dist.length);
+        for (int i = 0; i < sources.length; i++) {
+            assertArrayEquals(GraphUtils.shortestPathBFS(graph, sources[i]), dist[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Multi-source BFS: Should stream every reached node once per source")
+    void testMultiSourceBFSVisitor() {
+        CsrGraph graph = CsrGraph.fromAdjacency(createGraph(4, new int[][]{{0, 1}, {1, 2}, {3, 0}}), 4);
+        int[][] dist = new int[2][4];
+        int[] calls = new int[1];
+        GraphUtils.multiSourceBFS(graph, new int[]{0, 3}, (source, node, d) -> {
+            dist[source][node] = d + 1;
+            calls[0]++;
+        });
+        assertArrayEquals(new int[]{1, 2, 3, 0}, dist[0]);
+        assertArrayEquals(new int[]{2, 3, 4, 1}, dist[1]);
+        assertEquals(7, calls[0]);
+    }
+
+    @Test
+    @DisplayName("Multi-source BFS: Should match BFS on a large R-MAT graph")
+    void testMultiSourceBFSRmat() {
+        CsrGraph graph = GraphUtils.generateRmatGraph(17, 4, 45);
+        int[] sources = IntStream.range(0, 64).map(i -> i * 997).toArray();
+        int[][] dist = GraphUtils.multiSourceBFS(graph, sources);
+        for (int i = 0; i < sources.length; i += 9) {
+            assertArrayEquals(GraphUtils.shortestPathBFS(graph, sources[i]), dist[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Multi-source BFS: Should match BFS on a long path with a dense head")
+    void testMultiSourceBFSHighDiameter() {
+        // Dense circulant head on nodes 0 .. 499, then a path 499 - 500 - ... - 79999
+        int head = 500;
+        int numNodes = 80_000;
+        List<List<Integer>> adj = createPathGraph(numNodes);
+        for (int u = 0; u < head; u++) {
+            for (int k = 2; k <= 40; k++) {
+                int v = (u + k) % head;
+                adj.get(u).add(v);
+                adj.get(v).add(u);
+            }
+        }
+        CsrGraph graph = CsrGraph.fromAdjacency(adj, numNodes);
+        // Sources on the path and in the head, so levels switch between top-down and bottom-up
+        int[] sources = IntStream.range(0, 64).map(i -> i % 2 == 0 ? i * 1_000 : i).toArray();
+        int[][] dist = GraphUtils.multiSourceBFS(graph, sources);
+        for (int i = 0; i < sources.length; i += 7) {
+            assertArrayEquals(GraphUtils.shortestPathBFS(graph, sources[i]), dist[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Multi-source BFS: Should handle no sources and reject invalid input")
+    void testMultiSourceBFSEdgeCases() {
+        CsrGraph graph = CsrGraph.fromAdjacency(createGraph(3, new int[][]{{0, 1}}), 3);
+        assertEquals(0, GraphUtils.multiSourceBFS(graph, new int[0]).length);
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.multiSourceBFS(graph, (int[]) null));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.multiSourceBFS(graph, new int[]{3}));
+        assertThrows(IllegalArgumentException.class, () -> GraphUtils.multiSourceBFS(graph, new int[]{0}, null));
+    }
+}
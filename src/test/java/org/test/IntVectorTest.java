@@ -0,0 +1,121 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.utils.IntVector;
+import org.utils.IntVectorUtils;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the off-heap IntVector and IntVectorUtils.
+ */
+public class IntVectorTest {
+
+    // =========================================================================
+    //                       TESTS FOR IntVector storage
+    // =========================================================================
+
+    @Test
+    @DisplayName("IntVector: Should store and return values by long index")
+    void testGetSet() {
+        try (IntVector vec = IntVector.allocate(5)) {
+            assertEquals(5, vec.length());
+            vec.set(3L, 42);
+            vec.swap(3L, 0L);
+            assertArrayEquals(new int[]{42, 0, 0, 0, 0}, vec.toArray());
+            assertThrows(IndexOutOfBoundsException.class, () -> vec.get(5L));
+            assertThrows(IndexOutOfBoundsException.class, () -> vec.set(-1L, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("IntVector: Should reject access after close and negative lengths")
+    void testClosedAndInvalid() {
+        IntVector vec = IntVector.of(1, 2, 3);
+        vec.close();
+        assertThrows(IllegalStateException.class, () -> vec.get(0));
+        assertThrows(IllegalArgumentException.class, () -> IntVector.allocate(-1));
+    }
+
+    @Test
+    @DisplayName("IntVector: File-mapped vectors should persist their contents")
+    void testMappedFile(@TempDir Path dir) {
+        Path file = dir.resolve("vector.bin");
+        try (IntVector vec = IntVector.map(file, 1000)) {
+            for (long i = 0; i < vec.length(); i++) {
+                vec.set(i, (int) (i * 3));
+            }
+        }
+        try (IntVector reopened = IntVector.map(file, 1000)) {
+            assertEquals(2997, reopened.get(999L));
+            assertEquals(1500, reopened.get(500L));
+        }
+    }
+
+    // =========================================================================
+    //                     TESTS FOR IntVectorUtils functions
+    // =========================================================================
+
+    @Test
+    @DisplayName("min()/max()/isSorted(): Should work on off-heap vectors")
+    void testMinMaxIsSorted() {
+        try (IntVector vec = IntVector.of(5, -2, 8, 1)) {
+            assertEquals(-2, IntVectorUtils.min(vec));
+            assertEquals(8, IntVectorUtils.max(vec));
+            assertFalse(IntVectorUtils.isSorted(vec));
+        }
+        assertTrue(IntVectorUtils.isSorted(null));
+        assertThrows(IllegalArgumentException.class, () -> IntVectorUtils.min(IntVector.allocate(0)));
+        assertThrows(IllegalArgumentException.class, () -> IntVectorUtils.max(null));
+    }
+
+    @Test
+    @DisplayName("radixSort(): Should sort negative and positive values like Arrays.sort")
+    void testRadixSort() {
+        int[] values = new Random(33).ints(100_000).toArray();
+        try (IntVector vec = IntVector.of(values)) {
+            IntVectorUtils.radixSort(vec);
+            Arrays.sort(values);
+            assertArrayEquals(values, vec.toArray());
+            assertTrue(IntVectorUtils.isSorted(vec));
+        }
+    }
+
+    @Test
+    @DisplayName("binarySearchFirstOccurrence(): Should return long indices of first occurrences")
+    void testBinarySearch() {
+        try (IntVector vec = IntVector.of(1, 3, 3, 3, 5, 7)) {
+            assertEquals(1L, IntVectorUtils.binarySearchFirstOccurrence(vec, 3));
+            assertEquals(-1L, IntVectorUtils.binarySearchFirstOccurrence(vec, 4));
+        }
+        assertEquals(-1L, IntVectorUtils.binarySearchFirstOccurrence(null, 4));
+    }
+
+    @Test
+    @DisplayName("rotate(): Should rotate off-heap vectors to the right")
+    void testRotate() {
+        try (IntVector vec = IntVector.of(1, 2, 3, 4, 5)) {
+            IntVectorUtils.rotate(vec, 7L);
+            assertArrayEquals(new int[]{4, 5, 1, 2, 3}, vec.toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("majorityElement(): Should find or reject a majority in off-heap vectors")
+    void testMajorityElement() {
+        try (IntVector majority = IntVector.of(2, 2, 1, 1, 2); IntVector none = IntVector.of(1, 2, 3)) {
+            assertEquals(2, IntVectorUtils.majorityElement(majority));
+            assertEquals(Integer.MIN_VALUE, IntVectorUtils.majorityElement(none));
+        }
+    }
+}
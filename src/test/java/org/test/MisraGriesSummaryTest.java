@@ -0,0 +1,111 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.MisraGriesSummary;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the MisraGriesSummary heavy hitter structure.
+ */
+public class MisraGriesSummaryTest {
+
+    // =========================================================================
+    //                         TESTS FOR offer()
+    // =========================================================================
+
+    @Test
+    @DisplayName("offer(): Should keep every item above n/k among the candidates")
+    void testOfferKeepsHeavyHitters() {
+        MisraGriesSummary summary = new MisraGriesSummary(3);
+        for (int item : new int[]{1, 2, 1, 3, 1, 4, 2, 1, 5, 2}) {
+            summary.offer(item);
+        }
+        int[] candidates = summary.candidates();
+        Arrays.sort(candidates);
+        assertArrayEquals(new int[]{1}, candidates); // Only 1 occurs more than 10 / 3 times
+        assertEquals(10, summary.total());
+    }
+
+    @Test
+    @DisplayName("offer(): Estimates should be lower bounds within n/k of the true frequency")
+    void testEstimateBounds() {
+        MisraGriesSummary summary = new MisraGriesSummary(4);
+        int[] data = IntStream.range(0, 1000).map(i -> i % 3 == 0 ? 42 : i).toArray();
+        summary.offerAll(data);
+        long exact = Arrays.stream(data).filter(x -> x == 42).count();
+        assertTrue(summary.estimate(42) <= exact);
+        assertTrue(summary.estimate(42) >= exact - summary.total() / 4);
+        assertEquals(0, summary.estimate(-1));
+    }
+
+    @Test
+    @DisplayName("offerAll(): Should reject invalid chunks")
+    void testOfferAllInvalid() {
+        MisraGriesSummary summary = new MisraGriesSummary(2);
+        assertThrows(IllegalArgumentException.class, () -> summary.offerAll(new int[]{1, 2}, 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> summary.offerAll(null, 0, 0));
+    }
+
+    @Test
+    @DisplayName("MisraGriesSummary: Should reject k below 2")
+    void testInvalidK() {
+        assertThrows(IllegalArgumentException.class, () -> new MisraGriesSummary(1));
+    }
+
+    // =========================================================================
+    //                         TESTS FOR merge()
+    // =========================================================================
+
+    @Test
+    @DisplayName("merge(): Chunk summaries merged together should still contain the heavy hitters")
+    void testMergeChunks() {
+        int[] data = IntStream.range(0, 10_000).map(i -> i % 4 == 0 ? 7 : i % 5 == 0 ? 9 : i).toArray();
+        MisraGriesSummary merged = new MisraGriesSummary(5);
+        for (int from = 0; from < data.length; from += 1000) {
+            MisraGriesSummary chunk = new MisraGriesSummary(5);
+            chunk.offerAll(data, from, from + 1000);
+            merged.merge(chunk);
+        }
+        assertEquals(10_000, merged.total());
+        assertTrue(merged.candidates().length <= 4);
+        int[] verified = merged.verify(Arrays.stream(data));
+        Arrays.sort(verified);
+        assertArrayEquals(new int[]{7}, verified); // 9 occurs 1500 times, below n / k = 2000
+    }
+
+    @Test
+    @DisplayName("merge(): Should reject summaries with a different k")
+    void testMergeDifferentK() {
+        assertThrows(IllegalArgumentException.class, () -> new MisraGriesSummary(3).merge(new MisraGriesSummary(4)));
+    }
+
+    // =========================================================================
+    //                      TESTS FOR of() / verify()
+    // =========================================================================
+
+    @Test
+    @DisplayName("of(): Parallel streams should produce a summary with the same verified heavy hitters")
+    void testOfParallelStream() {
+        int[] data = IntStream.range(0, 500_000).map(i -> i % 3 == 0 ? -5 : i).toArray();
+        MisraGriesSummary summary = MisraGriesSummary.of(Arrays.stream(data).parallel(), 4);
+        assertEquals(data.length, summary.total());
+        assertArrayEquals(new int[]{-5}, summary.verify(Arrays.stream(data).parallel()));
+    }
+
+    @Test
+    @DisplayName("verify(): Should drop candidates that are not true heavy hitters")
+    void testVerifyDropsFalsePositives() {
+        int[] data = new int[]{1, 2, 3};
+        MisraGriesSummary summary = MisraGriesSummary.of(Arrays.stream(data), 2);
+        assertEquals(1, summary.candidates().length); // The last item survives the vote
+        assertArrayEquals(new int[]{}, summary.verify(Arrays.stream(data)));
+    }
+}
@@ -0,0 +1,116 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.CsrGraph;
+import org.utils.GraphUtils;
+import org.utils.OnlineTopologicalOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the OnlineTopologicalOrder structure.
+ */
+public class OnlineTopologicalOrderTest {
+
+    private void assertValidOrder(OnlineTopologicalOrder dag, List<int[]> edges) {
+        int[] order = dag.order();
+        for (int i = 0; i < order.length; i++) {
+            assertEquals(i, dag.position(order[i]));
+        }
+        for (int[] edge : edges) {
+            assertTrue(dag.position(edge[0]) < dag.position(edge[1]), "Edge " + edge[0] + " -> " + edge[1]);
+        }
+    }
+
+    // =========================================================================
+    //                           TESTS FOR addEdge()
+    // =========================================================================
+
+    @Test
+    @DisplayName("addEdge(): Should keep the order when the edge already agrees with it")
+    void testAddEdgeForward() {
+        OnlineTopologicalOrder dag = new OnlineTopologicalOrder(4);
+        assertTrue(dag.addEdge(0, 2));
+        assertTrue(dag.addEdge(1, 3));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, dag.order());
+        assertEquals(2, dag.numEdges());
+    }
+
+    @Test
+    @DisplayName("addEdge(): Should reorder only the affected nodes for a backward edge")
+    void testAddEdgeBackward() {
+        OnlineTopologicalOrder dag = new OnlineTopologicalOrder(5);
+        dag.addEdge(1, 2);
+        // 3 -> 1 forces 3 (and nothing else outside [1, 3]) before 1 and 2
+        assertTrue(dag.addEdge(3, 1));
+        assertArrayEquals(new int[]{0, 3, 1, 2, 4}, dag.order());
+        assertTrue(dag.addEdge(4, 0));
+        assertValidOrder(dag, List.of(new int[]{1, 2}, new int[]{3, 1}, new int[]{4, 0}));
+    }
+
+    @Test
+    @DisplayName("addEdge(): Should reject edges that would close a cycle")
+    void testAddEdgeRejectsCycle() {
+        OnlineTopologicalOrder dag = new OnlineTopologicalOrder(4);
+        dag.addEdge(2, 1);
+        dag.addEdge(1, 0);
+        assertFalse(dag.addEdge(0, 2));
+        assertFalse(dag.addEdge(3, 3));
+        assertTrue(dag.addEdge(0, 3));
+        assertEquals(3, dag.numEdges());
+        assertValidOrder(dag, List.of(new int[]{2, 1}, new int[]{1, 0}, new int[]{0, 3}));
+        assertThrows(IllegalArgumentException.class, () -> dag.addEdge(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new OnlineTopologicalOrder(-1));
+    }
+
+    // =========================================================================
+    //                           TESTS FOR addEdges()
+    // =========================================================================
+
+    @Test
+    @DisplayName("addEdges(): Should check each edge against the edges accepted before it")
+    void testAddEdgesBatch() {
+        OnlineTopologicalOrder dag = new OnlineTopologicalOrder(3);
+        boolean[] added = dag.addEdges(new int[]{2, 1, 0, 0}, new int[]{1, 0, 2, 1});
+        assertArrayEquals(new boolean[]{true, true, false, false}, added);
+        assertArrayEquals(new int[]{2, 1, 0}, dag.order());
+        assertThrows(IllegalArgumentException.class, () -> dag.addEdges(new int[]{0, 1}, new int[]{1, 5}));
+        assertThrows(IllegalArgumentException.class, () -> dag.addEdges(new int[]{0}, null));
+        assertEquals(2, dag.numEdges());
+    }
+
+    @Test
+    @DisplayName("addEdges(): Should agree with full recomputation on a random edge stream")
+    void testAddEdgesMatchesRecomputation() {
+        Random random = new Random(50);
+        int numNodes = 400;
+        OnlineTopologicalOrder dag = new OnlineTopologicalOrder(numNodes);
+        List<int[]> accepted = new ArrayList<>();
+        for (int batch = 0; batch < 40; batch++) {
+            int[] sources = random.ints(50, 0, numNodes).toArray();
+            int[] targets = random.ints(50, 0, numNodes).toArray();
+            boolean[] added = dag.addEdges(sources, targets);
+            for (int i = 0; i < sources.length; i++) {
+                if (added[i]) {
+                    accepted.add(new int[]{sources[i], targets[i]});
+                } else if (sources[i] != targets[i]) {
+                    // A rejected edge must close a cycle with the edges accepted so far
+                    int[] from = accepted.stream().mapToInt(e -> e[0]).toArray();
+                    int[] to = accepted.stream().mapToInt(e -> e[1]).toArray();
+                    assertTrue(GraphUtils.shortestPathBFS(CsrGraph.fromEdges(numNodes, from, to), targets[i])[sources[i]] > 0);
+                }
+            }
+            assertValidOrder(dag, accepted);
+        }
+        assertEquals(accepted.size(), dag.numEdges());
+    }
+}
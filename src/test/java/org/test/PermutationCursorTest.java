@@ -0,0 +1,156 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.ArrayUtils;
+import org.utils.PermutationCursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the PermutationCursor enumerator.
+ */
+public class PermutationCursorTest {
+
+    // =========================================================================
+    //                        TESTS FOR next() / total()
+    // =========================================================================
+
+    @Test
+    @DisplayName("next(): Should visit all permutations in lexicographic order")
+    void testNextVisitsAll() {
+        PermutationCursor cursor = new PermutationCursor(new int[]{3, 1, 2});
+        List<String> seen = new ArrayList<>();
+        do {
+            seen.add(Arrays.toString(cursor.current()));
+        } while (cursor.next());
+        assertEquals(List.of("[1, 2, 3]", "[1, 3, 2]", "[2, 1, 3]", "[2, 3, 1]", "[3, 1, 2]", "[3, 2, 1]"), seen);
+        assertEquals(6, cursor.total());
+        assertEquals(5, cursor.rank());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    @DisplayName("total(): Should count distinct permutations of multisets")
+    void testTotalWithDuplicates() {
+        assertEquals(3, new PermutationCursor(new int[]{1, 1, 2}).total());
+        assertEquals(1, new PermutationCursor(new int[]{}).total());
+        assertEquals(1, new PermutationCursor(new int[20]).total());
+        assertEquals(factorial(20) / (factorial(10) * factorial(10)),
+                new PermutationCursor(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1}).total());
+    }
+
+    // =========================================================================
+    //                            TESTS FOR seek()
+    // =========================================================================
+
+    @Test
+    @DisplayName("seek(): Unranking should match stepping with nextPermutation, with and without duplicates")
+    void testSeekMatchesStepping() {
+        for (int[] values : new int[][]{{1, 2, 3, 4, 5}, {2, 1, 2, 3, 1}}) {
+            PermutationCursor stepping = new PermutationCursor(values);
+            PermutationCursor seeking = new PermutationCursor(values);
+            do {
+                seeking.seek(stepping.rank());
+                assertArrayEquals(stepping.current(), seeking.current());
+            } while (stepping.next());
+        }
+    }
+
+    @Test
+    @DisplayName("seek(): Should jump to the last permutation of a 20-element array")
+    void testSeekLargeRank() {
+        int[] values = new int[20];
+        for (int i = 0; i < 20; i++) {
+            values[i] = i;
+        }
+        PermutationCursor cursor = new PermutationCursor(values);
+        cursor.seek(cursor.total() - 1);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(19 - i, cursor.current()[i]);
+        }
+        assertEquals(factorial(20), cursor.total());
+        assertThrows(IllegalArgumentException.class, () -> cursor.seek(cursor.total()));
+    }
+
+    @Test
+    @DisplayName("PermutationCursor: Should reject null and oversized inputs")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new PermutationCursor(null));
+        assertThrows(IllegalArgumentException.class, () -> new PermutationCursor(new int[21]));
+    }
+
+    // =========================================================================
+    //                            TESTS FOR split()
+    // =========================================================================
+
+    @Test
+    @DisplayName("split(): Parallel ranges should cover every permutation exactly once")
+    void testSplitCoversRange() {
+        PermutationCursor cursor = new PermutationCursor(new int[]{1, 2, 3, 4, 5, 6, 7});
+        List<PermutationCursor> parts = cursor.split(4);
+        assertEquals(4, parts.size());
+        AtomicLong visited = new AtomicLong();
+        parts.parallelStream().forEach(part -> {
+            long expectedRank = part.rank();
+            int[] previous = null;
+            do {
+                assertEquals(expectedRank++, part.rank());
+                if (previous != null) {
+                    int[] next = previous.clone();
+                    ArrayUtils.nextPermutation(next);
+                    assertArrayEquals(next, part.current());
+                }
+                previous = part.current().clone();
+                visited.incrementAndGet();
+            } while (part.next());
+            assertEquals(part.endRank(), expectedRank);
+        });
+        assertEquals(5040, visited.get());
+    }
+
+    @Test
+    @DisplayName("split(): Should not create more parts than remaining permutations")
+    void testSplitSmall() {
+        List<PermutationCursor> parts = new PermutationCursor(new int[]{1, 2}).split(10);
+        assertEquals(2, parts.size());
+        assertTrue(parts.get(1).rank() == 1 && parts.get(1).endRank() == 2);
+        assertThrows(IllegalArgumentException.class, () -> new PermutationCursor(new int[]{1}).split(0));
+    }
+
+    @Test
+    @DisplayName("split(): Should cover [0, 20!) without gaps for the maximum length")
+    void testSplitMaxLength() {
+        PermutationCursor cursor = new PermutationCursor(new int[]{20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1});
+        assertEquals(factorial(20), cursor.total());
+        List<PermutationCursor> parts = cursor.split(8);
+        assertEquals(8, parts.size());
+        long expectedStart = 0;
+        for (int p = 0; p < parts.size(); p++) {
+            PermutationCursor part = parts.get(p);
+            // 20! is divisible by 8, so every part covers exactly 20! / 8 ranks
+            assertEquals(factorial(20) / 8 * p, part.rank());
+            assertEquals(expectedStart, part.rank());
+            expectedStart = part.endRank();
+        }
+        assertEquals(factorial(20), expectedStart);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20}, parts.get(0).current());
+    }
+
+    private static long factorial(int n) {
+        long result = 1;
+        for (int i = 2; i <= n; i++) {
+            result *= i;
+        }
+        return result;
+    }
+}
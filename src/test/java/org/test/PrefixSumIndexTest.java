@@ -0,0 +1,136 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.ArrayUtils;
+import org.utils.PrefixSumIndex;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit 5 test class for the PrefixSumIndex structure.
+ */
+public class PrefixSumIndexTest {
+
+    // =========================================================================
+    //                     TESTS FOR longestSubarrayWithSum()
+    // =========================================================================
+
+    @Test
+    @DisplayName("longestSubarrayWithSum(): Should find the longest subarray for several targets on one index")
+    void testLongestSubarrayMultipleTargets() {
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{10, 5, 2, 7, 1, 9});
+        assertEquals(4, index.longestSubarrayWithSum(15)); // {5, 2, 7, 1}
+        assertEquals(3, index.longestSubarrayWithSum(10)); // {2, 7, 1}
+        assertEquals(6, index.longestSubarrayWithSum(34));
+        assertEquals(0, index.longestSubarrayWithSum(100));
+    }
+
+    @Test
+    @DisplayName("longestSubarrayWithSum(): Should handle negative numbers and zero target")
+    void testLongestSubarrayNegativeAndZero() {
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{1, -1, 5, -2, 3});
+        assertEquals(4, index.longestSubarrayWithSum(3)); // {1, -1, 5, -2}
+        assertEquals(2, index.longestSubarrayWithSum(0)); // {1, -1}
+        assertEquals(1, index.longestSubarrayWithSum(-1)); // {-1}
+    }
+
+    @Test
+    @DisplayName("longestSubarrayWithSum(): Should not overflow on large values")
+    void testLongestSubarrayNoOverflow() {
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, 1});
+        assertEquals(3, index.longestSubarrayWithSum(2L * Integer.MAX_VALUE + 1));
+    }
+
+    @Test
+    @DisplayName("longestSubarrayWithSum(): Should return 0 for an empty array")
+    void testLongestSubarrayEmpty() {
+        assertEquals(0, new PrefixSumIndex(new int[]{}).longestSubarrayWithSum(0));
+    }
+
+    @Test
+    @DisplayName("longestSubarrayWithSum(): Should agree with ArrayUtils on random inputs")
+    void testLongestSubarrayMatchesArrayUtils() {
+        Random random = new Random(26);
+        for (int round = 0; round < 50; round++) {
+            int[] arr = random.ints(40, -5, 6).toArray();
+            PrefixSumIndex index = new PrefixSumIndex(arr);
+            for (int target = -10; target <= 10; target++) {
+                assertEquals(ArrayUtils.longestSubarrayWithSum(arr, target), index.longestSubarrayWithSum(target));
+            }
+        }
+    }
+
+    // =========================================================================
+    //                    TESTS FOR countSubarraysWithSum()
+    // =========================================================================
+
+    @Test
+    @DisplayName("countSubarraysWithSum(): Should count all subarrays with the target sum")
+    void testCountSubarrays() {
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{1, 1, 1});
+        assertEquals(2, index.countSubarraysWithSum(2));
+        assertEquals(3, index.countSubarraysWithSum(1));
+        assertEquals(0, index.countSubarraysWithSum(0));
+    }
+
+    @Test
+    @DisplayName("countSubarraysWithSum(): Should count zero-sum subarrays")
+    void testCountZeroSumSubarrays() {
+        assertEquals(6, new PrefixSumIndex(new int[]{0, 0, 0}).countSubarraysWithSum(0));
+    }
+
+    @Test
+    @DisplayName("countSubarraysWithSum(): Should agree with a brute-force count on random inputs")
+    void testCountSubarraysMatchesBruteForce() {
+        Random random = new Random(62);
+        for (int round = 0; round < 50; round++) {
+            int[] arr = random.ints(30, -4, 5).toArray();
+            PrefixSumIndex index = new PrefixSumIndex(arr);
+            for (int target = -8; target <= 8; target++) {
+                long expected = 0;
+                for (int i = 0; i < arr.length; i++) {
+                    long sum = 0;
+                    for (int j = i; j < arr.length; j++) {
+                        sum += arr[j];
+                        if (sum == target) {
+                            expected++;
+                        }
+                    }
+                }
+                assertEquals(expected, index.countSubarraysWithSum(target));
+            }
+        }
+    }
+
+    // =========================================================================
+    //                          TESTS FOR rangeSum()
+    // =========================================================================
+
+    @Test
+    @DisplayName("rangeSum(): Should return inclusive range sums")
+    void testRangeSum() {
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{3, -1, 4, 1, 5});
+        assertEquals(12, index.rangeSum(0, 4));
+        assertEquals(4, index.rangeSum(1, 3));
+        assertEquals(5, index.rangeSum(4, 4));
+    }
+
+    @Test
+    @DisplayName("rangeSum(): Should throw exception for invalid ranges")
+    void testRangeSumInvalid() {
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> index.rangeSum(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> index.rangeSum(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> index.rangeSum(2, 1));
+    }
+
+    @Test
+    @DisplayName("PrefixSumIndex: Should throw exception for null array")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixSumIndex(null));
+    }
+}
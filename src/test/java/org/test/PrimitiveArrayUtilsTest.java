@@ -0,0 +1,210 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.DoubleArrayUtils;
+import org.utils.LongArrayUtils;
+import org.utils.ShortArrayUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the primitive specializations of ArrayUtils (LongArrayUtils,
+ * DoubleArrayUtils and ShortArrayUtils), which are generated from a single template.
+ * Running main() regenerates the specializations from the template.
+ */
+public class PrimitiveArrayUtilsTest {
+
+    private static final Path TEMPLATE = Path.of("src/main/templates/PrimitiveArrayUtils.java.template");
+    private static final Path OUTPUT_DIR = Path.of("src/main/java/org/utils");
+
+    /**
+     * Template substitutions per specialization: class prefix, primitive type and "no result" value.
+     */
+    private static final String[][] SPECIALIZATIONS = {
+            {"Long", "long", "Long.MIN_VALUE"},
+            {"Double", "double", "Double.NaN"},
+            {"Short", "short", "Short.MIN_VALUE"},
+    };
+
+    /**
+     * Regenerates the specialized sources from the template. Run from the project root.
+     */
+    public static void main(String[] args) throws IOException {
+        String template = Files.readString(TEMPLATE);
+        for (String[] spec : SPECIALIZATIONS) {
+            Files.writeString(OUTPUT_DIR.resolve(spec[0] + "ArrayUtils.java"), render(template, spec));
+        }
+    }
+
+    private static String render(String template, String[] spec) {
+        return template.replace("$Type$", spec[0]).replace("$type$", spec[1]).replace("$NONE$", spec[2]);
+    }
+
+    // =========================================================================
+    //                          TESTS FOR the template
+    // =========================================================================
+
+    @Test
+    @DisplayName("template: Should match the checked-in specializations (run main() after editing it)")
+    void testSpecializationsInSyncWithTemplate() throws IOException {
+        String template = Files.readString(TEMPLATE);
+        for (String[] spec : SPECIALIZATIONS) {
+            Path source = OUTPUT_DIR.resolve(spec[0] + "ArrayUtils.java");
+            assertEquals(render(template, spec), Files.readString(source), source + " is out of date");
+        }
+    }
+
+    // =========================================================================
+    //                            TESTS FOR min() / max()
+    // =========================================================================
+
+    @Test
+    @DisplayName("min()/max(): Should find the extremes of each primitive type")
+    void testMinMax() {
+        long[] longs = {5_000_000_000L, -3L, Long.MAX_VALUE, 7L};
+        assertEquals(-3L, LongArrayUtils.min(longs));
+        assertEquals(Long.MAX_VALUE, LongArrayUtils.max(longs));
+
+        double[] doubles = {2.5, -0.5, 1e300, 0.0};
+        assertEquals(-0.5, DoubleArrayUtils.min(doubles));
+        assertEquals(1e300, DoubleArrayUtils.max(doubles));
+
+        short[] shorts = {3, Short.MIN_VALUE, 12};
+        assertEquals(Short.MIN_VALUE, ShortArrayUtils.min(shorts));
+        assertEquals((short) 12, ShortArrayUtils.max(shorts));
+    }
+
+    @Test
+    @DisplayName("min()/max(): Should order NaN and signed zeros like Double.compare")
+    void testMinMaxDoubleTotalOrder() {
+        double[] doubles = {0.0, Double.NaN, -0.0, 1.0};
+        assertEquals(-0.0, DoubleArrayUtils.min(doubles));
+        assertTrue(Double.isNaN(DoubleArrayUtils.max(doubles)));
+    }
+
+    @Test
+    @DisplayName("min()/max(): Should throw exception for null or empty array")
+    void testMinMaxInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> LongArrayUtils.min(null));
+        assertThrows(IllegalArgumentException.class, () -> DoubleArrayUtils.max(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> ShortArrayUtils.min(new short[0]));
+    }
+
+    // =========================================================================
+    //                        TESTS FOR sort() / isSorted()
+    // =========================================================================
+
+    @Test
+    @DisplayName("sort(): Should sort small and large (parallel) arrays")
+    void testSort() {
+        Random random = new Random(37);
+        long[] longs = random.longs(100_000).toArray();
+        long[] expected = longs.clone();
+        Arrays.sort(expected);
+        assertFalse(LongArrayUtils.isSorted(longs));
+        LongArrayUtils.sort(longs);
+        assertArrayEquals(expected, longs);
+        assertTrue(LongArrayUtils.isSorted(longs));
+
+        double[] doubles = {3.5, Double.NaN, -1.0, 0.0, -0.0};
+        DoubleArrayUtils.sort(doubles);
+        assertArrayEquals(new double[]{-1.0, -0.0, 0.0, 3.5, Double.NaN}, doubles);
+        assertTrue(DoubleArrayUtils.isSorted(doubles));
+
+        short[] shorts = {9, -4, 0, 9};
+        ShortArrayUtils.sort(shorts);
+        assertArrayEquals(new short[]{-4, 0, 9, 9}, shorts);
+    }
+
+    @Test
+    @DisplayName("sort()/isSorted(): Should accept null and trivial arrays")
+    void testSortTrivial() {
+        LongArrayUtils.sort(null);
+        assertTrue(LongArrayUtils.isSorted(null));
+        assertTrue(DoubleArrayUtils.isSorted(new double[]{1.0}));
+        assertFalse(ShortArrayUtils.isSorted(new short[]{2, 1}));
+    }
+
+    // =========================================================================
+    //                   TESTS FOR binarySearchFirstOccurrence()
+    // =========================================================================
+
+    @Test
+    @DisplayName("binarySearchFirstOccurrence(): Should find the first of repeated values")
+    void testBinarySearchFirstOccurrence() {
+        long[] longs = {1L, 4_000_000_000L, 4_000_000_000L, 4_000_000_000L, 9L << 40};
+        assertEquals(1, LongArrayUtils.binarySearchFirstOccurrence(longs, 4_000_000_000L));
+        assertEquals(-1, LongArrayUtils.binarySearchFirstOccurrence(longs, 5L));
+
+        double[] doubles = {-2.0, 0.5, 0.5, 7.25};
+        assertEquals(1, DoubleArrayUtils.binarySearchFirstOccurrence(doubles, 0.5));
+        assertEquals(-1, DoubleArrayUtils.binarySearchFirstOccurrence(doubles, 0.25));
+
+        short[] shorts = {1, 1, 1};
+        assertEquals(0, ShortArrayUtils.binarySearchFirstOccurrence(shorts, (short) 1));
+        assertEquals(-1, ShortArrayUtils.binarySearchFirstOccurrence(null, (short) 1));
+    }
+
+    // =========================================================================
+    //                       TESTS FOR rotate() / partition()
+    // =========================================================================
+
+    @Test
+    @DisplayName("rotate(): Should rotate right by k steps")
+    void testRotate() {
+        long[] longs = {1, 2, 3, 4, 5};
+        LongArrayUtils.rotate(longs, 7);
+        assertArrayEquals(new long[]{4, 5, 1, 2, 3}, longs);
+
+        double[] doubles = {1.0, 2.0, 3.0};
+        DoubleArrayUtils.rotate(doubles, -1);
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, doubles);
+
+        short[] shorts = {1, 2, 3};
+        ShortArrayUtils.rotate(shorts, 1);
+        assertArrayEquals(new short[]{3, 1, 2}, shorts);
+    }
+
+    @Test
+    @DisplayName("partition(): Should place the last element at its sorted position")
+    void testPartition() {
+        double[] doubles = {3.0, 8.5, 1.0, 9.0, 4.0};
+        int p = DoubleArrayUtils.partition(doubles, 0, doubles.length - 1);
+        assertEquals(2, p);
+        assertEquals(4.0, doubles[p]);
+        for (int i = 0; i < p; i++) {
+            assertTrue(doubles[i] <= 4.0);
+        }
+        for (int i = p + 1; i < doubles.length; i++) {
+            assertTrue(doubles[i] > 4.0);
+        }
+        assertThrows(IllegalArgumentException.class, () -> LongArrayUtils.partition(new long[]{1}, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> ShortArrayUtils.partition(null, 0, 0));
+    }
+
+    // =========================================================================
+    //                        TESTS FOR majorityElement()
+    // =========================================================================
+
+    @Test
+    @DisplayName("majorityElement(): Should find the majority or return the type's sentinel")
+    void testMajorityElement() {
+        assertEquals(9_000_000_000L, LongArrayUtils.majorityElement(new long[]{9_000_000_000L, 1L, 9_000_000_000L}));
+        assertEquals(Long.MIN_VALUE, LongArrayUtils.majorityElement(new long[]{1L, 2L}));
+        assertEquals(0.1, DoubleArrayUtils.majorityElement(new double[]{0.1, 0.1, 0.2, 0.1}));
+        assertTrue(Double.isNaN(DoubleArrayUtils.majorityElement(new double[0])));
+        assertEquals((short) 5, ShortArrayUtils.majorityElement(new short[]{5, 5, 6}));
+        assertEquals(Short.MIN_VALUE, ShortArrayUtils.majorityElement(null));
+    }
+}
@@ -0,0 +1,144 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.ArrayUtils;
+import org.utils.RunTracker;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit 5 test class for the RunTracker buffer.
+ */
+public class RunTrackerTest {
+
+    // =========================================================================
+    //                       TESTS FOR append() / statistics
+    // =========================================================================
+
+    @Test
+    @DisplayName("append(): Should track sortedness, run count and longest run incrementally")
+    void testAppendStatistics() {
+        RunTracker tracker = new RunTracker(2);
+        assertTrue(tracker.isSorted());
+        assertEquals(0, tracker.runCount());
+        assertEquals(0, tracker.longestRun());
+
+        tracker.appendAll(1, 3, 3, 7);
+        assertTrue(tracker.isSorted());
+        assertEquals(1, tracker.runCount());
+        assertEquals(4, tracker.longestRun());
+
+        tracker.append(2); // Starts a second run
+        tracker.append(5);
+        assertFalse(tracker.isSorted());
+        assertEquals(2, tracker.runCount());
+        assertEquals(4, tracker.longestRun());
+        assertEquals(6, tracker.size());
+        assertEquals(2, tracker.get(4));
+        assertArrayEquals(new int[]{1, 3, 3, 7, 2, 5}, tracker.toArray());
+    }
+
+    @Test
+    @DisplayName("append(): Should agree with ArrayUtils.isSorted after every append of random values")
+    void testAppendMatchesIsSorted() {
+        Random random = new Random(41);
+        RunTracker tracker = new RunTracker();
+        for (int i = 0; i < 500; i++) {
+            tracker.append(random.nextInt(3) == 0 ? random.nextInt(100) : i);
+            int[] snapshot = tracker.toArray();
+            assertEquals(ArrayUtils.isSorted(snapshot), tracker.isSorted());
+            int runs = 0;
+            for (int j = 0; j < snapshot.length; j++) {
+                if (j == 0 || snapshot[j] < snapshot[j - 1]) {
+                    runs++;
+                }
+            }
+            assertEquals(runs, tracker.runCount());
+        }
+    }
+
+    @Test
+    @DisplayName("get()/appendAll(): Should throw exception for invalid arguments")
+    void testInvalidArguments() {
+        RunTracker tracker = new RunTracker();
+        tracker.append(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> tracker.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tracker.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> tracker.appendAll((int[]) null));
+        assertThrows(IllegalArgumentException.class, () -> new RunTracker(-1));
+    }
+
+    // =========================================================================
+    //                              TESTS FOR sort()
+    // =========================================================================
+
+    @Test
+    @DisplayName("sort(): Should merge the recorded runs and leave one run")
+    void testSortMergesRuns() {
+        Random random = new Random(42);
+        RunTracker tracker = new RunTracker();
+        int[] values = random.ints(10_000, -1000, 1000).toArray();
+        tracker.appendAll(values);
+        tracker.sort();
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, tracker.toArray());
+        assertTrue(tracker.isSorted());
+        assertEquals(1, tracker.runCount());
+        assertEquals(values.length, tracker.longestRun());
+
+        tracker.append(Integer.MIN_VALUE); // Tracking continues after the sort
+        assertEquals(2, tracker.runCount());
+    }
+
+    @Test
+    @DisplayName("sort(): Should leave an already sorted buffer untouched")
+    void testSortAlreadySorted() {
+        RunTracker tracker = new RunTracker();
+        tracker.appendAll(1, 2, 2, 9);
+        tracker.sort();
+        assertArrayEquals(new int[]{1, 2, 2, 9}, tracker.toArray());
+        new RunTracker().sort();
+    }
+
+    // =========================================================================
+    //                          TESTS FOR concurrent readers
+    // =========================================================================
+
+    @Test
+    @DisplayName("get(): Should return consistent values to readers while a writer appends")
+    void testConcurrentReaders() throws InterruptedException {
+        RunTracker tracker = new RunTracker(1);
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int n = tracker.size();
+                if (n > 0 && tracker.get(n - 1) != n - 1) {
+                    failed.set(true);
+                }
+                if (!tracker.isSorted()) {
+                    failed.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 200_000; i++) {
+            tracker.append(i);
+        }
+        done.set(true);
+        reader.join();
+        assertFalse(failed.get());
+        assertEquals(200_000, tracker.longestRun());
+    }
+}
@@ -0,0 +1,117 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.ArrayUtils;
+import org.utils.SortedIntIndex;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit 5 test class for the SortedIntIndex search structure.
+ */
+public class SortedIntIndexTest {
+
+    // =========================================================================
+    //                 TESTS FOR lowerBound() / upperBound()
+    // =========================================================================
+
+    @Test
+    @DisplayName("lowerBound()/upperBound(): Should return the bounds around runs of duplicates")
+    void testBounds() {
+        SortedIntIndex index = new SortedIntIndex(new int[]{1, 3, 3, 3, 5, 7});
+        assertEquals(1, index.lowerBound(3));
+        assertEquals(4, index.upperBound(3));
+        assertEquals(0, index.lowerBound(-10));
+        assertEquals(6, index.lowerBound(8));
+        assertEquals(6, index.upperBound(7));
+        assertEquals(4, index.lowerBound(4));
+    }
+
+    @Test
+    @DisplayName("lowerBound()/upperBound(): Should agree with a linear scan for every array size up to 70")
+    void testBoundsAllSizes() {
+        Random random = new Random(31);
+        for (int n = 0; n <= 70; n++) {
+            int[] arr = random.ints(n, 0, 20).sorted().toArray();
+            SortedIntIndex index = new SortedIntIndex(arr);
+            for (int target = -1; target <= 21; target++) {
+                int lower = 0;
+                while (lower < n && arr[lower] < target) {
+                    lower++;
+                }
+                int upper = lower;
+                while (upper < n && arr[upper] <= target) {
+                    upper++;
+                }
+                assertEquals(lower, index.lowerBound(target));
+                assertEquals(upper, index.upperBound(target));
+            }
+        }
+    }
+
+    // =========================================================================
+    //                          TESTS FOR firstIndex()
+    // =========================================================================
+
+    @Test
+    @DisplayName("firstIndex(): Should match binarySearchFirstOccurrence")
+    void testFirstIndexMatchesArrayUtils() {
+        int[] arr = new Random(3).ints(1000, -100, 100).sorted().toArray();
+        SortedIntIndex index = new SortedIntIndex(arr);
+        for (int target = -110; target <= 110; target++) {
+            assertEquals(ArrayUtils.binarySearchFirstOccurrence(arr, target), index.firstIndex(target));
+        }
+    }
+
+    @Test
+    @DisplayName("firstIndex(int[]): Sorted batches (galloping) and unsorted batches (parallel) should match single queries")
+    void testFirstIndexBatch() {
+        Random random = new Random(131);
+        int[] arr = random.ints(50_000, 0, 100_000).sorted().toArray();
+        SortedIntIndex index = new SortedIntIndex(arr);
+
+        int[] unsorted = random.ints(20_000, -10, 100_010).toArray();
+        int[] sortedTargets = unsorted.clone();
+        Arrays.sort(sortedTargets);
+
+        int[] expectedUnsorted = Arrays.stream(unsorted).map(index::firstIndex).toArray();
+        int[] expectedSorted = Arrays.stream(sortedTargets).map(index::firstIndex).toArray();
+        assertArrayEquals(expectedUnsorted, index.firstIndex(unsorted));
+        assertArrayEquals(expectedSorted, index.firstIndex(sortedTargets));
+    }
+
+    @Test
+    @DisplayName("firstIndex(int[]): Should handle an empty index and empty batches")
+    void testFirstIndexBatchEmpty() {
+        assertArrayEquals(new int[]{-1, -1}, new SortedIntIndex(new int[]{}).firstIndex(new int[]{1, 2}));
+        assertArrayEquals(new int[]{}, new SortedIntIndex(new int[]{1}).firstIndex(new int[]{}));
+    }
+
+    // =========================================================================
+    //                        TESTS FOR countInRange()
+    // =========================================================================
+
+    @Test
+    @DisplayName("countInRange(): Should count elements in an inclusive value range")
+    void testCountInRange() {
+        SortedIntIndex index = new SortedIntIndex(new int[]{1, 3, 3, 3, 5, 7});
+        assertEquals(4, index.countInRange(2, 5));
+        assertEquals(6, index.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, index.countInRange(4, 4));
+        assertEquals(0, index.countInRange(5, 2));
+    }
+
+    @Test
+    @DisplayName("SortedIntIndex: Should reject null and unsorted arrays")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntIndex(new int[]{2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntIndex(new int[]{1}).firstIndex(null));
+    }
+}
@@ -0,0 +1,131 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.SortedSetUtils;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JUnit 5 test class for SortedSetUtils functions.
+ */
+public class SortedSetUtilsTest {
+
+    // =========================================================================
+    //                              HELPER METHODS
+    // =========================================================================
+
+    /**
+     * Helper to create a sorted random array with duplicates.
+     */
+    private int[] sortedRandom(Random random, int length, int bound) {
+        return random.ints(length, 0, bound).sorted().toArray();
+    }
+
+    /**
+     * Helper converting an array into a TreeSet for reference results.
+     */
+    private TreeSet<Integer> toSet(int[] arr) {
+        TreeSet<Integer> set = new TreeSet<>();
+        for (int x : arr) {
+            set.add(x);
+        }
+        return set;
+    }
+
+    private int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // =========================================================================
+    //                   TESTS FOR intersect() / intersectCount()
+    // =========================================================================
+
+    @Test
+    @DisplayName("intersect(): Should return the distinct common values")
+    void testIntersectBasic() {
+        assertArrayEquals(new int[]{3, 5}, SortedSetUtils.intersect(new int[]{1, 3, 3, 5, 7}, new int[]{2, 3, 3, 4, 5}));
+        assertEquals(2, SortedSetUtils.intersectCount(new int[]{1, 3, 3, 5, 7}, new int[]{2, 3, 3, 4, 5}));
+    }
+
+    @Test
+    @DisplayName("intersect(): Should handle null, empty and disjoint inputs")
+    void testIntersectEdgeCases() {
+        assertArrayEquals(new int[]{}, SortedSetUtils.intersect(null, new int[]{1}));
+        assertArrayEquals(new int[]{}, SortedSetUtils.intersect(new int[]{}, new int[]{1}));
+        assertArrayEquals(new int[]{}, SortedSetUtils.intersect(new int[]{1, 2}, new int[]{3, 4}));
+        assertEquals(0, SortedSetUtils.intersectCount(new int[]{1}, null));
+    }
+
+    @Test
+    @DisplayName("intersect(): Linear and galloping paths should agree with a reference set intersection")
+    void testIntersectMatchesReference() {
+        Random random = new Random(32);
+        for (int smallLength : new int[]{10, 100, 5000}) {
+            int[] small = sortedRandom(random, smallLength, 20_000);
+            int[] large = sortedRandom(random, 10_000, 20_000);
+            TreeSet<Integer> expected = toSet(small);
+            expected.retainAll(toSet(large));
+            assertArrayEquals(toArray(expected), SortedSetUtils.intersect(small, large));
+            assertArrayEquals(toArray(expected), SortedSetUtils.intersect(large, small));
+            assertEquals(expected.size(), SortedSetUtils.intersectCount(small, large));
+        }
+    }
+
+    // =========================================================================
+    //                     TESTS FOR union() / difference()
+    // =========================================================================
+
+    @Test
+    @DisplayName("union(): Should merge into a distinct sorted array")
+    void testUnion() {
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, SortedSetUtils.union(new int[]{1, 3, 3, 5}, new int[]{2, 3, 4}));
+        assertArrayEquals(new int[]{1, 2}, SortedSetUtils.union(new int[]{1, 1, 2}, null));
+        assertArrayEquals(new int[]{}, SortedSetUtils.union(null, null));
+    }
+
+    @Test
+    @DisplayName("difference(): Should remove every value of the second array")
+    void testDifference() {
+        assertArrayEquals(new int[]{1, 7}, SortedSetUtils.difference(new int[]{1, 3, 3, 5, 7}, new int[]{2, 3, 5}));
+        assertArrayEquals(new int[]{1, 3}, SortedSetUtils.difference(new int[]{1, 1, 3}, null));
+        assertArrayEquals(new int[]{}, SortedSetUtils.difference(null, new int[]{1}));
+    }
+
+    @Test
+    @DisplayName("difference(): Galloping path should agree with a reference set difference")
+    void testDifferenceGalloping() {
+        Random random = new Random(23);
+        int[] small = sortedRandom(random, 50, 10_000);
+        int[] large = sortedRandom(random, 8_000, 10_000);
+        TreeSet<Integer> expected = toSet(small);
+        expected.removeAll(toSet(large));
+        assertArrayEquals(toArray(expected), SortedSetUtils.difference(small, large));
+    }
+
+    // =========================================================================
+    //                        TESTS FOR intersectAll()
+    // =========================================================================
+
+    @Test
+    @DisplayName("intersectAll(): Should intersect many posting lists")
+    void testIntersectAll() {
+        int[] evens = IntStream.range(0, 1000).map(i -> 2 * i).toArray();
+        int[] multiplesOf3 = IntStream.range(0, 700).map(i -> 3 * i).toArray();
+        int[] few = new int[]{0, 6, 7, 12, 13, 1998};
+        assertArrayEquals(new int[]{0, 6, 12, 1998}, SortedSetUtils.intersectAll(evens, multiplesOf3, few));
+    }
+
+    @Test
+    @DisplayName("intersectAll(): Should handle no lists, a single list and an empty list")
+    void testIntersectAllEdgeCases() {
+        assertArrayEquals(new int[]{}, SortedSetUtils.intersectAll());
+        assertArrayEquals(new int[]{1, 2}, SortedSetUtils.intersectAll(new int[]{1, 1, 2}));
+        assertArrayEquals(new int[]{}, SortedSetUtils.intersectAll(new int[]{1, 2}, new int[]{}));
+    }
+}
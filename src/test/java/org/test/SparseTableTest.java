@@ -0,0 +1,98 @@
+package org.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.utils.ArrayUtils;
+import org.utils.SparseTable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit 5 test class for the SparseTable structure.
+ */
+public class SparseTableTest {
+
+    // =========================================================================
+    //                     TESTS FOR rangeMin() / rangeMax()
+    // =========================================================================
+
+    @Test
+    @DisplayName("rangeMin()/rangeMax(): Should answer queries on a small array")
+    void testRangeMinMaxSmall() {
+        SparseTable table = new SparseTable(new int[]{5, 2, 8, -1, 7, 3});
+        assertEquals(-1, table.rangeMin(0, 5));
+        assertEquals(8, table.rangeMax(0, 5));
+        assertEquals(2, table.rangeMin(0, 2));
+        assertEquals(7, table.rangeMax(4, 5));
+        assertEquals(8, table.rangeMin(2, 2));
+        assertEquals(6, table.length());
+    }
+
+    @Test
+    @DisplayName("rangeMin()/rangeMax(): Should agree with ArrayUtils.min/max on every range of random arrays")
+    void testRangeMinMaxMatchesArrayUtils() {
+        Random random = new Random(39);
+        for (int n : new int[]{1, 2, 7, 33}) {
+            int[] arr = random.ints(n, -100, 100).toArray();
+            SparseTable table = new SparseTable(arr);
+            for (int from = 0; from < n; from++) {
+                for (int to = from; to < n; to++) {
+                    int[] slice = Arrays.copyOfRange(arr, from, to + 1);
+                    assertEquals(ArrayUtils.min(slice), table.rangeMin(from, to));
+                    assertEquals(ArrayUtils.max(slice), table.rangeMax(from, to));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("rangeMin()/rangeMax(): Should throw exception for invalid ranges or null array")
+    void testRangeMinMaxInvalid() {
+        SparseTable table = new SparseTable(new int[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> table.rangeMin(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> table.rangeMax(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> table.rangeMin(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SparseTable(new int[0]).rangeMin(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SparseTable(null));
+    }
+
+    // =========================================================================
+    //                         TESTS FOR batched queries
+    // =========================================================================
+
+    @Test
+    @DisplayName("rangeMin(int[], int[]): Should answer a large batch like single queries")
+    void testBatchQueries() {
+        Random random = new Random(139);
+        int[] arr = random.ints(10_000).toArray();
+        SparseTable table = new SparseTable(arr);
+        int[] from = new int[5_000];
+        int[] to = new int[5_000];
+        for (int q = 0; q < from.length; q++) {
+            int a = random.nextInt(arr.length);
+            int b = random.nextInt(arr.length);
+            from[q] = Math.min(a, b);
+            to[q] = Math.max(a, b);
+        }
+        int[] mins = table.rangeMin(from, to);
+        int[] maxs = table.rangeMax(from, to);
+        for (int q = 0; q < from.length; q++) {
+            assertEquals(table.rangeMin(from[q], to[q]), mins[q]);
+            assertEquals(table.rangeMax(from[q], to[q]), maxs[q]);
+        }
+        assertArrayEquals(new int[0], table.rangeMin(new int[0], new int[0]));
+    }
+
+    @Test
+    @DisplayName("rangeMax(int[], int[]): Should throw exception for mismatched bounds")
+    void testBatchQueriesInvalid() {
+        SparseTable table = new SparseTable(new int[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> table.rangeMax(new int[]{0}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> table.rangeMin(null, new int[0]));
+    }
+}